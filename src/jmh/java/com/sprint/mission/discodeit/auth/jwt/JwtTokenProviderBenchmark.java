@@ -0,0 +1,93 @@
+package com.sprint.mission.discodeit.auth.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+ * 토큰 발급/검증 처리량 비교 (ops/s = tokens/s)
+ * legacy*: 호출마다 MACSigner/MACVerifier 생성 (키 링 도입 이전 방식)
+ * keyRing*: JwtKeyRing에 미리 만들어 둔 signer/verifier 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtTokenProviderBenchmark {
+
+  private static final String SECRET_KEY =
+      "benchmarksecretkeybenchmarksecretkeybenchmarksecretkeybenchmarksecretkey";
+
+  private JwtKeyRing keyRing;
+  private JWTClaimsSet claimsSet;
+  private String legacyToken;
+  private String keyRingToken;
+
+  @Setup
+  public void setUp() throws JOSEException {
+    keyRing = new JwtKeyRing("bench-v1", SECRET_KEY, Duration.ofMinutes(30), Clock.systemUTC());
+    claimsSet = new JWTClaimsSet.Builder()
+        .subject(UUID.randomUUID().toString())
+        .claim("roles", List.of("ROLE_USER"))
+        .expirationTime(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+        .issueTime(new Date())
+        .issuer("discodeit.com")
+        .build();
+    legacyToken = legacySign();
+    keyRingToken = keyRingSign();
+  }
+
+  @Benchmark
+  public String legacySign() throws JOSEException {
+    MACSigner signer = new MACSigner(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
+    signedJWT.sign(signer);
+    return signedJWT.serialize();
+  }
+
+  @Benchmark
+  public String keyRingSign() throws JOSEException {
+    JwtKeyRing.SigningKey signingKey = keyRing.activeKey();
+    JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.HS256)
+        .keyID(signingKey.keyId())
+        .build();
+    SignedJWT signedJWT = new SignedJWT(header, claimsSet);
+    signedJWT.sign(signingKey.signer());
+    return signedJWT.serialize();
+  }
+
+  @Benchmark
+  public boolean legacyVerify() throws JOSEException, ParseException {
+    SignedJWT signedJWT = SignedJWT.parse(legacyToken);
+    JWSVerifier verifier = new MACVerifier(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    return signedJWT.verify(verifier);
+  }
+
+  @Benchmark
+  public boolean keyRingVerify() throws JOSEException, ParseException {
+    SignedJWT signedJWT = SignedJWT.parse(keyRingToken);
+    JWSVerifier verifier = keyRing.verifier(signedJWT.getHeader().getKeyID()).orElseThrow();
+    return signedJWT.verify(verifier);
+  }
+}
@@ -0,0 +1,129 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.base.UuidStrategy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+ * messages 테이블 insert 처리량 비교 (파일 기반 H2 PostgreSQL 모드, 전체 마이그레이션 적용)
+ * strategy=V4: 완전 난수 ID, strategy=V7: 시간 순서 ID (엔티티 ID 생성기와 같은 UuidStrategy 사용)
+ * 같은 방식의 ID로 seeded건을 미리 넣은 뒤, 1회 호출마다 1,000건을 batch insert하고 커밋한다.
+ * 초당 저장 행 수 = ops/s * 1,000
+ *
+ * ./gradlew jmh -PjmhIncludes=MessageIdInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageIdInsertBenchmark {
+
+  private static final int BATCH_SIZE = 1_000;
+
+  @Param({"V4", "V7"})
+  private UuidStrategy strategy;
+
+  @Param({"200000"})
+  private int seeded;
+
+  /**
+   * 페이지 캐시(KB)가 인덱스보다 작아야 무작위 삽입의 페이지 교체 비용이 드러난다.
+   */
+  @Param({"4096"})
+  private int cacheSizeKb;
+
+  private Connection connection;
+  private PreparedStatement insertMessage;
+  private UUID channelId;
+  private UUID authorId;
+
+  @Setup
+  public void setUp() throws SQLException, IOException {
+    Path directory = Files.createTempDirectory("message-id-");
+    String url = "jdbc:h2:file:" + directory.resolve(strategy.name()) + ";MODE=PostgreSQL"
+        + ";DATABASE_TO_LOWER=TRUE;CACHE_SIZE=" + cacheSizeKb;
+    Flyway.configure()
+        .dataSource(url, "sa", "")
+        .locations("classpath:db/migration")
+        .load()
+        .migrate();
+
+    connection = DriverManager.getConnection(url, "sa", "");
+    connection.setAutoCommit(false);
+    insertMessage = connection.prepareStatement(
+        "INSERT INTO messages (id, created_at, content, channel_id, author_id) "
+            + "VALUES (?, ?, ?, ?, ?)");
+    seed();
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    insertMessage.close();
+    try (PreparedStatement shutdown = connection.prepareStatement("SHUTDOWN")) {
+      shutdown.execute();
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public int[] insertMessages() throws SQLException {
+    return insertBatch();
+  }
+
+  private void seed() throws SQLException {
+    Timestamp now = Timestamp.from(Instant.now());
+    authorId = strategy.generate();
+    channelId = strategy.generate();
+    try (PreparedStatement insertUser = connection.prepareStatement(
+        "INSERT INTO users (id, created_at, username, email, password, role) "
+            + "VALUES (?, ?, 'author', 'author@example.com', 'password', 'USER')");
+        PreparedStatement insertChannel = connection.prepareStatement(
+            "INSERT INTO channels (id, created_at, name, type) "
+                + "VALUES (?, ?, 'benchmark', 'PUBLIC')")) {
+      insertUser.setObject(1, authorId);
+      insertUser.setTimestamp(2, now);
+      insertUser.execute();
+      insertChannel.setObject(1, channelId);
+      insertChannel.setTimestamp(2, now);
+      insertChannel.execute();
+    }
+    connection.commit();
+
+    for (int i = 0; i < seeded; i += BATCH_SIZE) {
+      insertBatch();
+    }
+  }
+
+  private int[] insertBatch() throws SQLException {
+    Timestamp now = Timestamp.from(Instant.now());
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      insertMessage.setObject(1, strategy.generate());
+      insertMessage.setTimestamp(2, now);
+      insertMessage.setString(3, "message");
+      insertMessage.setObject(4, channelId);
+      insertMessage.setObject(5, authorId);
+      insertMessage.addBatch();
+    }
+    int[] counts = insertMessage.executeBatch();
+    connection.commit();
+    return counts;
+  }
+}
@@ -0,0 +1,267 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * 리포지토리 조회 쿼리 지연 시간 비교 (H2 PostgreSQL 모드 + 시드 데이터)
+ * indexed=false: V2까지 적용 (보조 인덱스 없음)
+ * indexed=true: V3까지 적용 (db/migration/V3__add_indexes.sql)
+ * 각 벤치마크는 해당 리포지토리 메서드가 실행하는 SQL과 같은 형태의 쿼리를 실행한다.
+ * H2는 외래 키 컬럼에 인덱스를 자동 생성하므로 단일 컬럼 조회의 차이는 PostgreSQL보다 작게 나타난다.
+ *
+ * ./gradlew jmh -PjmhIncludes=RepositoryQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryQueryBenchmark {
+
+  private static final int BATCH_SIZE = 1_000;
+
+  @Param({"false", "true"})
+  private boolean indexed;
+
+  @Param({"100000"})
+  private int messages;
+
+  @Param({"200"})
+  private int channels;
+
+  @Param({"2000"})
+  private int users;
+
+  private Connection connection;
+  private List<UUID> userIds;
+  private List<UUID> channelIds;
+  private List<UUID> attachmentIds;
+
+  private PreparedStatement findOlderByChannelIdWithAuthor;
+  private PreparedStatement findAllByUserId;
+  private PreparedStatement findAllByChannelIdWithUser;
+  private PreparedStatement findRefreshTokenByUserId;
+  private PreparedStatement findMessageAttachmentsByAttachmentId;
+
+  @Setup
+  public void setUp() throws SQLException {
+    String url = "jdbc:h2:mem:benchmark-" + indexed + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"
+        + ";DB_CLOSE_DELAY=-1";
+    Flyway.configure()
+        .dataSource(url, "sa", "")
+        .locations("classpath:db/migration")
+        .target(indexed ? "3" : "2")
+        .load()
+        .migrate();
+
+    connection = DriverManager.getConnection(url, "sa", "");
+    seed();
+
+    findOlderByChannelIdWithAuthor = connection.prepareStatement(
+        "SELECT m.*, a.*, p.* FROM messages m "
+            + "LEFT JOIN users a ON a.id = m.author_id "
+            + "LEFT JOIN binary_contents p ON p.id = a.profile_id "
+            + "WHERE m.channel_id = ? "
+            + "AND (m.created_at < ? OR (m.created_at = ? AND m.id < ?)) "
+            + "ORDER BY m.created_at DESC, m.id DESC LIMIT 51");
+    findAllByUserId = connection.prepareStatement(
+        "SELECT r.* FROM read_statuses r WHERE r.user_id = ?");
+    findAllByChannelIdWithUser = connection.prepareStatement(
+        "SELECT r.*, u.*, p.* FROM read_statuses r "
+            + "JOIN users u ON u.id = r.user_id "
+            + "LEFT JOIN binary_contents p ON p.id = u.profile_id "
+            + "WHERE r.channel_id = ?");
+    findRefreshTokenByUserId = connection.prepareStatement(
+        "SELECT t.* FROM refresh_tokens t WHERE t.user_id = ?");
+    findMessageAttachmentsByAttachmentId = connection.prepareStatement(
+        "SELECT ma.message_id FROM message_attachments ma WHERE ma.attachment_id = ?");
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    try (PreparedStatement shutdown = connection.prepareStatement("SHUTDOWN")) {
+      shutdown.execute();
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public void messageFindOlderByChannelIdWithAuthor(Blackhole blackhole) throws SQLException {
+    Timestamp cursor = Timestamp.from(Instant.now());
+    findOlderByChannelIdWithAuthor.setObject(1, random(channelIds));
+    findOlderByChannelIdWithAuthor.setTimestamp(2, cursor);
+    findOlderByChannelIdWithAuthor.setTimestamp(3, cursor);
+    findOlderByChannelIdWithAuthor.setObject(4, UUID.randomUUID());
+    consume(findOlderByChannelIdWithAuthor, blackhole);
+  }
+
+  @Benchmark
+  public void readStatusFindAllByUserId(Blackhole blackhole) throws SQLException {
+    findAllByUserId.setObject(1, random(userIds));
+    consume(findAllByUserId, blackhole);
+  }
+
+  @Benchmark
+  public void readStatusFindAllByChannelIdWithUser(Blackhole blackhole) throws SQLException {
+    findAllByChannelIdWithUser.setObject(1, random(channelIds));
+    consume(findAllByChannelIdWithUser, blackhole);
+  }
+
+  @Benchmark
+  public void refreshTokenFindByUserId(Blackhole blackhole) throws SQLException {
+    findRefreshTokenByUserId.setObject(1, random(userIds));
+    consume(findRefreshTokenByUserId, blackhole);
+  }
+
+  @Benchmark
+  public void messageAttachmentFindByAttachmentId(Blackhole blackhole) throws SQLException {
+    findMessageAttachmentsByAttachmentId.setObject(1, random(attachmentIds));
+    consume(findMessageAttachmentsByAttachmentId, blackhole);
+  }
+
+  private void seed() throws SQLException {
+    connection.setAutoCommit(false);
+    Timestamp now = Timestamp.from(Instant.now());
+
+    userIds = new ArrayList<>(users);
+    try (PreparedStatement insertUser = connection.prepareStatement(
+        "INSERT INTO users (id, created_at, username, email, password, role) "
+            + "VALUES (?, ?, ?, ?, ?, 'USER')");
+        PreparedStatement insertToken = connection.prepareStatement(
+            "INSERT INTO refresh_tokens (id, created_at, token, user_id, rotated) "
+                + "VALUES (?, ?, ?, ?, false)")) {
+      for (int i = 0; i < users; i++) {
+        UUID userId = UUID.randomUUID();
+        userIds.add(userId);
+        insertUser.setObject(1, userId);
+        insertUser.setTimestamp(2, now);
+        insertUser.setString(3, "user" + i);
+        insertUser.setString(4, "user" + i + "@example.com");
+        insertUser.setString(5, "password");
+        insertUser.addBatch();
+
+        insertToken.setObject(1, UUID.randomUUID());
+        insertToken.setTimestamp(2, now);
+        insertToken.setString(3, UUID.randomUUID().toString());
+        insertToken.setObject(4, userId);
+        insertToken.addBatch();
+      }
+      insertUser.executeBatch();
+      insertToken.executeBatch();
+    }
+
+    channelIds = new ArrayList<>(channels);
+    try (PreparedStatement insertChannel = connection.prepareStatement(
+        "INSERT INTO channels (id, created_at, name, type) VALUES (?, ?, ?, 'PUBLIC')")) {
+      for (int i = 0; i < channels; i++) {
+        UUID channelId = UUID.randomUUID();
+        channelIds.add(channelId);
+        insertChannel.setObject(1, channelId);
+        insertChannel.setTimestamp(2, now);
+        insertChannel.setString(3, "channel" + i);
+        insertChannel.addBatch();
+      }
+      insertChannel.executeBatch();
+    }
+
+    // 사용자마다 10개 채널 참여
+    try (PreparedStatement insertReadStatus = connection.prepareStatement(
+        "INSERT INTO read_statuses (id, created_at, user_id, channel_id, last_read_at) "
+            + "VALUES (?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < users; i++) {
+        for (int j = 0; j < 10; j++) {
+          insertReadStatus.setObject(1, UUID.randomUUID());
+          insertReadStatus.setTimestamp(2, now);
+          insertReadStatus.setObject(3, userIds.get(i));
+          insertReadStatus.setObject(4, channelIds.get((i + j * 7) % channels));
+          insertReadStatus.setTimestamp(5, now);
+          insertReadStatus.addBatch();
+        }
+      }
+      insertReadStatus.executeBatch();
+    }
+
+    // 메시지 5개 중 1개에 첨부파일
+    attachmentIds = new ArrayList<>(messages / 5);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long start = now.getTime() - TimeUnit.DAYS.toMillis(30);
+    try (PreparedStatement insertMessage = connection.prepareStatement(
+        "INSERT INTO messages (id, created_at, content, channel_id, author_id) "
+            + "VALUES (?, ?, ?, ?, ?)");
+        PreparedStatement insertBinaryContent = connection.prepareStatement(
+            "INSERT INTO binary_contents (id, created_at, file_name, size, content_type) "
+                + "VALUES (?, ?, 'file.txt', 100, 'text/plain')");
+        PreparedStatement insertAttachment = connection.prepareStatement(
+            "INSERT INTO message_attachments (message_id, attachment_id) VALUES (?, ?)")) {
+      for (int i = 0; i < messages; i++) {
+        UUID messageId = UUID.randomUUID();
+        insertMessage.setObject(1, messageId);
+        insertMessage.setTimestamp(2,
+            new Timestamp(random.nextLong(start, now.getTime())));
+        insertMessage.setString(3, "message" + i);
+        insertMessage.setObject(4, random(channelIds));
+        insertMessage.setObject(5, random(userIds));
+        insertMessage.addBatch();
+
+        if (i % 5 == 0) {
+          UUID attachmentId = UUID.randomUUID();
+          attachmentIds.add(attachmentId);
+          insertBinaryContent.setObject(1, attachmentId);
+          insertBinaryContent.setTimestamp(2, now);
+          insertBinaryContent.addBatch();
+          insertAttachment.setObject(1, messageId);
+          insertAttachment.setObject(2, attachmentId);
+          insertAttachment.addBatch();
+        }
+
+        if ((i + 1) % BATCH_SIZE == 0) {
+          insertMessage.executeBatch();
+          insertBinaryContent.executeBatch();
+          insertAttachment.executeBatch();
+        }
+      }
+      insertMessage.executeBatch();
+      insertBinaryContent.executeBatch();
+      insertAttachment.executeBatch();
+    }
+
+    connection.commit();
+    connection.setAutoCommit(true);
+    try (PreparedStatement analyze = connection.prepareStatement("ANALYZE")) {
+      analyze.execute();
+    }
+  }
+
+  private static void consume(PreparedStatement statement, Blackhole blackhole)
+      throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(resultSet.getObject(1));
+      }
+    }
+  }
+
+  private static <T> T random(List<T> values) {
+    return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+  }
+}
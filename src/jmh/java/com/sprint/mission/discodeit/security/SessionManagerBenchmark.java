@@ -0,0 +1,106 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.session.SessionRegistryImpl;
+
+/*
+ * 접속 여부 조회 비용 비교
+ * legacy*: 전체 principal 순회 (PresenceRegistry 도입 이전 SessionManager 방식)
+ * indexed*: 사용자 ID 색인 조회
+ * usersPerPage: GET /api/users 한 번에 변환하는 사용자 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionManagerBenchmark {
+
+  @Param({"10000", "50000"})
+  private int principals;
+
+  @Param({"100"})
+  private int usersPerPage;
+
+  private SessionRegistryImpl legacyRegistry;
+  private SessionManager sessionManager;
+  private List<UUID> userIds;
+
+  @Setup
+  public void setUp() {
+    legacyRegistry = new SessionRegistryImpl();
+    PresenceRegistry presenceRegistry = new PresenceRegistry(Duration.ofMinutes(5),
+        Clock.systemUTC());
+    IndexedSessionRegistry indexedRegistry = new IndexedSessionRegistry(presenceRegistry);
+    sessionManager = new SessionManager(indexedRegistry, presenceRegistry);
+
+    userIds = new ArrayList<>(principals);
+    for (int i = 0; i < principals; i++) {
+      UUID userId = UUID.randomUUID();
+      DiscodeitUserDetails principal = new DiscodeitUserDetails(
+          new UserDto(userId, "user" + i, "user" + i + "@example.com", null, true, Role.USER),
+          "password");
+      String sessionId = "session-" + i;
+      legacyRegistry.registerNewSession(sessionId, principal);
+      indexedRegistry.registerNewSession(sessionId, principal);
+      userIds.add(userId);
+    }
+  }
+
+  private List<UUID> page() {
+    int from = ThreadLocalRandom.current().nextInt(principals - usersPerPage);
+    return userIds.subList(from, from + usersPerPage);
+  }
+
+  @Benchmark
+  public boolean legacyIsOnline() {
+    return legacyHasActiveSessions(userIds.get(ThreadLocalRandom.current().nextInt(principals)));
+  }
+
+  @Benchmark
+  public boolean indexedIsOnline() {
+    return sessionManager.hasActiveSessions(
+        userIds.get(ThreadLocalRandom.current().nextInt(principals)));
+  }
+
+  @Benchmark
+  public int legacyUserPage() {
+    int online = 0;
+    for (UUID userId : page()) {
+      if (legacyHasActiveSessions(userId)) {
+        online++;
+      }
+    }
+    return online;
+  }
+
+  @Benchmark
+  public Set<UUID> indexedUserPage() {
+    return sessionManager.getOnlineUserIds(page());
+  }
+
+  private boolean legacyHasActiveSessions(UUID userId) {
+    return !legacyRegistry.getAllPrincipals().stream()
+        .filter(principal -> principal instanceof DiscodeitUserDetails)
+        .map(DiscodeitUserDetails.class::cast)
+        .filter(details -> details.getUserDto().id().equals(userId))
+        .flatMap(details -> legacyRegistry.getAllSessions(details, false).stream())
+        .toList()
+        .isEmpty();
+  }
+}
@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.DiscodeitApplication;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.mapper.MessageMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.MessageService;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 50건 메시지 페이지 조회 지연 시간 분포 비교 (p99는 결과의 p0.99 항목)
+ * legacyPage: 작성자/프로필 fetch join 페이지 조회 후 MessageMapper에서 첨부파일 @BatchSize 지연 로딩
+ * twoQueryPage: BasicMessageService (인덱스 ID 조회 → 작성자/프로필/첨부파일 일괄 로딩)
+ * 메시지마다 첨부파일 0~4개, 페이지 시작 위치는 매 호출마다 무작위
+ *
+ * ./gradlew jmhExec -PjmhIncludes=MessagePageBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessagePageBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"5000"})
+  private int messages;
+
+  private ConfigurableApplicationContext context;
+  private MessageService messageService;
+  private MessageMapper messageMapper;
+  private EntityManager entityManager;
+  private TransactionTemplate transactionTemplate;
+  private Channel channel;
+  private List<Message> positions;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(DiscodeitApplication.class).run(
+        "--spring.profiles.active=benchmark",
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:message-page;MODE=PostgreSQL",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.datasource.username=sa",
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--spring.flyway.enabled=false",
+        "--jwt.secret-key=benchmarksecretkeybenchmarksecretkeybenchmarksecretkey",
+        "--jwt.access-token-expiration-minutes=30",
+        "--jwt.refresh-token-expiration-minutes=420",
+        "--logging.level.root=WARN");
+    messageService = context.getBean(MessageService.class);
+    messageMapper = context.getBean(MessageMapper.class);
+    entityManager = context.getBean(EntityManager.class);
+    transactionTemplate = context.getBean(TransactionTemplate.class);
+
+    positions = transactionTemplate.execute(status -> seed());
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<MessageDto> legacyPage() {
+    Message position = randomPosition();
+    return transactionTemplate.execute(status -> entityManager.createQuery(
+            "SELECT m FROM Message m "
+                + "LEFT JOIN FETCH m.author a "
+                + "LEFT JOIN FETCH a.profile "
+                + "WHERE m.channel.id = :channelId AND m.createdAt < :createdAt "
+                + "ORDER BY m.createdAt DESC", Message.class)
+        .setParameter("channelId", channel.getId())
+        .setParameter("createdAt", position.getCreatedAt())
+        .setMaxResults(PAGE_SIZE + 1)
+        .getResultStream()
+        .limit(PAGE_SIZE)
+        .map(messageMapper::toDto)
+        .toList());
+  }
+
+  @Benchmark
+  public PageResponse<MessageDto> twoQueryPage() {
+    Message position = randomPosition();
+    String cursor = new MessageCursor(position.getCreatedAt(), position.getId()).encode();
+    return messageService.findAllByChannelId(channel.getId(), cursor, Direction.DESC,
+        PageRequest.of(0, PAGE_SIZE));
+  }
+
+  private Message randomPosition() {
+    return positions.get(ThreadLocalRandom.current().nextInt(PAGE_SIZE, positions.size()));
+  }
+
+  private List<Message> seed() {
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    ChannelRepository channelRepository = context.getBean(ChannelRepository.class);
+    MessageRepository messageRepository = context.getBean(MessageRepository.class);
+
+    List<User> authors = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      authors.add(userRepository.save(new User("user" + i, "user" + i + "@example.com",
+          "password", new BinaryContent("profile.png", 100L, "image/png"))));
+    }
+    channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "benchmark", null));
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<Message> saved = new ArrayList<>(messages);
+    for (int i = 0; i < messages; i++) {
+      List<BinaryContent> attachments = new ArrayList<>();
+      for (int j = random.nextInt(5); j > 0; j--) {
+        attachments.add(new BinaryContent("file" + j + ".txt", 100L, "text/plain"));
+      }
+      saved.add(messageRepository.save(new Message("message" + i, channel,
+          authors.get(i % authors.size()), attachments)));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return saved;
+  }
+}
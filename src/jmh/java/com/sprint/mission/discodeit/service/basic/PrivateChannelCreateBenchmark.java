@@ -0,0 +1,85 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.DiscodeitApplication;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.ChannelService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+ * 1,000명 비공개 채널 생성 (channels 1행 + read_statuses 1,000행)
+ * batchSize=1: 행마다 insert 문 하나씩 전송 (batch 미사용)
+ * batchSize=50: hibernate.jdbc.batch_size=50, order_inserts
+ * 초당 저장 행 수 = ops/s * (members + 1)
+ *
+ * ./gradlew jmhExec -PjmhIncludes=PrivateChannelCreateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrivateChannelCreateBenchmark {
+
+  @Param({"1000"})
+  private int members;
+
+  @Param({"1", "50"})
+  private int batchSize;
+
+  private ConfigurableApplicationContext context;
+  private ChannelService channelService;
+  private PrivateChannelCreateRequest request;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(DiscodeitApplication.class).run(
+        "--spring.profiles.active=benchmark",
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:private-channel-" + batchSize + ";MODE=PostgreSQL",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.datasource.username=sa",
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+        "--spring.flyway.enabled=false",
+        "--jwt.secret-key=benchmarksecretkeybenchmarksecretkeybenchmarksecretkey",
+        "--jwt.access-token-expiration-minutes=30",
+        "--jwt.refresh-token-expiration-minutes=420",
+        "--logging.level.root=WARN");
+    channelService = context.getBean(ChannelService.class);
+
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    List<User> users = new ArrayList<>(members);
+    for (int i = 0; i < members; i++) {
+      users.add(new User("member" + i, "member" + i + "@example.com", "password", null));
+    }
+    List<UUID> participantIds = userRepository.saveAll(users).stream()
+        .map(User::getId)
+        .toList();
+    request = new PrivateChannelCreateRequest(participantIds);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public ChannelDto createPrivateChannel() {
+    return channelService.create(request);
+  }
+}
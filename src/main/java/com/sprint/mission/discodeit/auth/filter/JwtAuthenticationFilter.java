@@ -0,0 +1,93 @@
+package com.sprint.mission.discodeit.auth.filter;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.JwtPrincipal;
+import com.sprint.mission.discodeit.security.PresenceRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * Authorization: Bearer {accessToken} 헤더 검증 후 SecurityContext에 인증 정보 저장
+ * principal은 토큰의 claims로만 구성 (요청마다 UserRepository 조회 X)
+ * 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 진행
+ * */
+
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PresenceRegistry presenceRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = resolveToken(request);
+
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            jwtTokenProvider.getVerifiedClaims(token)
+                    .ifPresent(claimsSet -> authenticate(request, claimsSet));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return header.substring(BEARER_PREFIX.length());
+    }
+
+    private void authenticate(HttpServletRequest request, JWTClaimsSet claimsSet) {
+        try {
+            JwtPrincipal principal = new JwtPrincipal(
+                    UUID.fromString(claimsSet.getSubject()),
+                    claimsSet.getStringClaim("username"),
+                    resolveRole(claimsSet.getStringListClaim("roles"))
+            );
+
+            UsernamePasswordAuthenticationToken authentication =
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+
+            presenceRegistry.touch(principal.getUserId());
+        } catch (ParseException | IllegalArgumentException e) {
+            log.warn("# JWT claims로 인증 정보 생성 실패, Message: {}", e.getMessage());
+        }
+    }
+
+    private Role resolveRole(List<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            throw new IllegalArgumentException("roles claim 없음");
+        }
+        String role = roles.get(0);
+        return Role.valueOf(role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role);
+    }
+}
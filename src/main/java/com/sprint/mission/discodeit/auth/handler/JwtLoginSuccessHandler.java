@@ -4,11 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
 import com.sprint.mission.discodeit.dto.data.JwtDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
-import com.sprint.mission.discodeit.entity.User;
-import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
-import com.sprint.mission.discodeit.mapper.UserMapper;
-import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.security.PresenceRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,9 +37,7 @@ public class JwtLoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
-
-    private final UserRepository userRepository;
-    private final UserMapper userMapper;
+    private final PresenceRegistry presenceRegistry;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
@@ -57,6 +52,7 @@ public class JwtLoginSuccessHandler implements AuthenticationSuccessHandler {
 
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
+        claims.put("username", discodeitUserDetails.getUsername());
         claims.put("roles", roles);
 
         // token 발급
@@ -70,9 +66,10 @@ public class JwtLoginSuccessHandler implements AuthenticationSuccessHandler {
         refreshTokenCookie.setMaxAge(7 * 24 * 60 * 60);
         response.addCookie(refreshTokenCookie);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.withId(userId));
-        UserDto userDto = userMapper.toDto(user);
+        presenceRegistry.touch(userId);
+
+        // 인증 과정(UserDetailsService)에서 이미 조회한 사용자 정보 재사용
+        UserDto userDto = discodeitUserDetails.getUserDto();
         JwtDto jwtDto = new JwtDto(userDto, accessToken);
 
         response.setCharacterEncoding("UTF-8");
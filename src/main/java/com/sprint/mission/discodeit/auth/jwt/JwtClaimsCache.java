@@ -0,0 +1,82 @@
+package com.sprint.mission.discodeit.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 검증이 끝난 토큰의 claims 캐시
+ * - key: 토큰의 SHA-256 해시 (원본 토큰은 메모리에 보관하지 않음)
+ * - 각 항목은 토큰의 exp 시점에 만료
+ * 같은 토큰으로 반복 요청 시 서명 검증(HMAC)과 JSON 파싱을 생략
+ */
+
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, JWTClaimsSet> cache;
+
+    public JwtClaimsCache(@Value("${jwt.claims-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .build();
+    }
+
+    public Optional<JWTClaimsSet> get(String token) {
+        return Optional.ofNullable(cache.getIfPresent(hash(token)));
+    }
+
+    public void put(String token, JWTClaimsSet claimsSet) {
+        if (claimsSet.getExpirationTime() != null) {
+            cache.put(hash(token), claimsSet);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiration implements Expiry<String, JWTClaimsSet> {
+
+        @Override
+        public long expireAfterCreate(String key, JWTClaimsSet value, long currentTime) {
+            Date expiration = value.getExpirationTime();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JWTClaimsSet value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JWTClaimsSet value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
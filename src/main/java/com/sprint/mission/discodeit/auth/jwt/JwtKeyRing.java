@@ -0,0 +1,133 @@
+package com.sprint.mission.discodeit.auth.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 서명/검증 키 보관소 (kid 헤더로 구분)
+ * MACSigner, MACVerifier는 thread-safe 하므로 키마다 한 번만 생성해서 재사용
+ * 키 교체(rotate) 시 새 키로 서명하고, 이전 키는 유예 기간(grace period) 동안 검증에만 사용
+ */
+
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final Clock clock;
+    private final Duration gracePeriod;
+    private final Map<String, VerificationKey> verificationKeys = new ConcurrentHashMap<>();
+
+    private volatile SigningKey activeKey;
+
+    @Autowired
+    public JwtKeyRing(
+            @Value("${jwt.key-id:default}") String keyId,
+            @Value("${jwt.secret-key}") String secretKey,
+            @Value("${jwt.previous-key-id:}") String previousKeyId,
+            @Value("${jwt.previous-secret-key:}") String previousSecretKey,
+            @Value("${jwt.rotation-grace-period-minutes:${jwt.refresh-token-expiration-minutes}}") long gracePeriodMinutes
+    ) {
+        this(keyId, secretKey, Duration.ofMinutes(gracePeriodMinutes), Clock.systemUTC());
+
+        // 배포 시점 키 교체: 이전 키는 기동 시점부터 유예 기간 동안만 검증에 사용
+        if (StringUtils.hasText(previousKeyId) && StringUtils.hasText(previousSecretKey)) {
+            retain(previousKeyId, previousSecretKey, clock.instant().plus(gracePeriod));
+        }
+    }
+
+    JwtKeyRing(String keyId, String secretKey, Duration gracePeriod, Clock clock) {
+        this.clock = clock;
+        this.gracePeriod = gracePeriod;
+        activate(keyId, secretKey);
+    }
+
+    public SigningKey activeKey() {
+        return activeKey;
+    }
+
+    /*
+     * kid에 해당하는 검증기 조회
+     * kid가 없는 토큰(키 링 도입 이전 발급분)은 현재 활성 키로 검증
+     */
+    public Optional<JWSVerifier> verifier(String keyId) {
+        if (keyId == null) {
+            return Optional.of(activeKey.verifier());
+        }
+
+        VerificationKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            return Optional.empty();
+        }
+        if (key.isExpired(clock.instant())) {
+            verificationKeys.remove(keyId, key);
+            log.info("# 유예 기간이 끝난 JWT 키 제거, kid = {}", keyId);
+            return Optional.empty();
+        }
+        return Optional.of(key.verifier());
+    }
+
+    /*
+     * 새 키로 교체 (무중단)
+     * 기존 활성 키는 지금부터 유예 기간이 끝날 때까지 검증에만 사용
+     */
+    public synchronized void rotate(String newKeyId, String newSecretKey) {
+        SigningKey previous = activeKey;
+        if (previous.keyId().equals(newKeyId)) {
+            throw new IllegalArgumentException("이미 사용 중인 kid: " + newKeyId);
+        }
+
+        activate(newKeyId, newSecretKey);
+        verificationKeys.put(previous.keyId(),
+                new VerificationKey(previous.verifier(), clock.instant().plus(gracePeriod)));
+
+        log.info("# JWT 키 교체 완료, active kid = {}, retired kid = {}", newKeyId, previous.keyId());
+    }
+
+    private synchronized void activate(String keyId, String secretKey) {
+        try {
+            byte[] secret = secretKey.getBytes(StandardCharsets.UTF_8);
+            SigningKey signingKey = new SigningKey(keyId, new MACSigner(secret), new MACVerifier(secret));
+
+            verificationKeys.put(keyId, new VerificationKey(signingKey.verifier(), null));
+            activeKey = signingKey;
+        } catch (JOSEException e) {
+            throw new IllegalStateException("JWT 서명 키 생성 실패, kid = " + keyId, e);
+        }
+    }
+
+    private void retain(String keyId, String secretKey, Instant expiresAt) {
+        try {
+            JWSVerifier verifier = new MACVerifier(secretKey.getBytes(StandardCharsets.UTF_8));
+            verificationKeys.putIfAbsent(keyId, new VerificationKey(verifier, expiresAt));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("JWT 검증 키 생성 실패, kid = " + keyId, e);
+        }
+    }
+
+    public record SigningKey(String keyId, JWSSigner signer, JWSVerifier verifier) {
+
+    }
+
+    private record VerificationKey(JWSVerifier verifier, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.sprint.mission.discodeit.auth.jwt;
 
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.sprint.mission.discodeit.entity.User;
@@ -14,9 +12,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /*
@@ -29,10 +28,8 @@ import java.util.UUID;
 public class JwtTokenProvider {
 
     private final UserRepository userRepository;
-
-    @Getter
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtClaimsCache jwtClaimsCache;
 
     @Getter
     @Value("${jwt.access-token-expiration-minutes}")
@@ -44,23 +41,21 @@ public class JwtTokenProvider {
 
     public String generateAccessToken(Map<String, Object> claims) {
         try {
-            JWSSigner signer = new MACSigner(secretKey.getBytes(StandardCharsets.UTF_8)); // signature 생성
-
             Date expiration = new Date(System.currentTimeMillis() + accessTokenExpirationMinutes * 60 * 1000); // accessTokenExpirationMinutes: 30분
 
             JWTClaimsSet claimsSet = new JWTClaimsSet.Builder() // payload
                     .subject(claims.get("userId").toString())
+                    .claim("username", claims.get("username"))
                     .claim("roles", claims.get("roles"))
                     .expirationTime(expiration)
                     .issueTime(new Date())
                     .issuer("discodeit.com") // 토큰 발급 주체
                     .build();
 
-            SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet); // header + payload
-            signedJWT.sign(signer); // (header + payload) + signature
+            String token = sign(claimsSet); // (header + payload) + signature
 
-            log.info("# Generated Access Token: {}", signedJWT.serialize());
-            return signedJWT.serialize();
+            log.info("# Generated Access Token: {}", token);
+            return token;
         } catch (Exception e) {
             throw new RuntimeException("JWT(Access Token) 발급 실패", e);
         }
@@ -68,22 +63,20 @@ public class JwtTokenProvider {
 
     public String generateRefreshToken(String subject) {
         try {
-            JWSSigner signer = new MACSigner(secretKey.getBytes(StandardCharsets.UTF_8));
-
             Date expiration = new Date(System.currentTimeMillis() + refreshTokenExpirationMinutes * 60 * 1000);
 
             JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
                     .subject(subject)
+                    .jwtID(UUID.randomUUID().toString()) // 같은 초에 발급된 토큰도 서로 다른 digest를 갖도록
                     .expirationTime(expiration)
                     .issueTime(new Date())
                     .issuer("discodeit.com")
                     .build();
 
-            SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
-            signedJWT.sign(signer);
+            String token = sign(claimsSet);
 
-            log.info("# Generated Refresh Token: {}", signedJWT.serialize());
-            return signedJWT.serialize();
+            log.info("# Generated Refresh Token: {}", token);
+            return token;
         } catch (Exception e) {
             throw new RuntimeException("JWT(Refresh Token) 발급 실패", e);
         }
@@ -103,7 +96,8 @@ public class JwtTokenProvider {
 
             Map<String, Object> claims = Map.of(
                     "userId", userId,
-                    "roels", user.getRole().name()
+                    "username", user.getUsername(),
+                    "roles", List.of("ROLE_" + user.getRole().name())
             );
 
             log.info("# Renew Access Token, userId = {}, refresh token = {}", userId, refreshToken);
@@ -115,18 +109,52 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return getVerifiedClaims(token).isPresent();
+    }
+
+    /*
+     * 서명, 만료 시간 검증 후 claims 반환 (검증 실패 시 empty)
+     * 한 번 검증된 토큰은 exp까지 캐시에서 바로 반환
+     */
+    public Optional<JWTClaimsSet> getVerifiedClaims(String token) {
+        Optional<JWTClaimsSet> cached = jwtClaimsCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
-            JWSVerifier verifier = new MACVerifier(secretKey.getBytes(StandardCharsets.UTF_8));
-
-            return signedJWT.verify(verifier)
-                    && signedJWT.getJWTClaimsSet().getExpirationTime().after(new Date());
+            JWSVerifier verifier = jwtKeyRing.verifier(signedJWT.getHeader().getKeyID()).orElse(null);
+            if (verifier == null) {
+                log.warn("# Unknown JWT key id: {}", signedJWT.getHeader().getKeyID());
+                return Optional.empty();
+            }
+
+            JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+            if (!signedJWT.verify(verifier) || !claimsSet.getExpirationTime().after(new Date())) {
+                return Optional.empty();
+            }
+
+            jwtClaimsCache.put(token, claimsSet);
+            return Optional.of(claimsSet);
         } catch (Exception e) {
             log.warn("# Invalid JWT Token: {}, Message: {}", token, e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    // 활성 키로 서명, 검증 시 키를 찾을 수 있도록 header에 kid 기록
+    private String sign(JWTClaimsSet claimsSet) throws JOSEException {
+        JwtKeyRing.SigningKey signingKey = jwtKeyRing.activeKey();
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.HS256)
+                .keyID(signingKey.keyId())
+                .build();
+
+        SignedJWT signedJWT = new SignedJWT(header, claimsSet); // header + payload
+        signedJWT.sign(signingKey.signer());
+        return signedJWT.serialize();
+    }
+
     public Map<String, Object> getClaims(String token) {
         try {
             return SignedJWT.parse(token).getJWTClaimsSet().getClaims();
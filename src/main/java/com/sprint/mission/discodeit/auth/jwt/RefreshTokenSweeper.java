@@ -0,0 +1,66 @@
+package com.sprint.mission.discodeit.auth.jwt;
+
+import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 더 이상 쓰이지 않는 Refresh Token 정리
+ * <p>
+ * 만료된 토큰과, 재발급 후 rotated-retention이 지난 토큰을 batch-size씩 나눠 삭제한다. 재발급된 토큰은 retention 동안 남겨
+ * 두어야 재사용을 감지할 수 있다. (retention이 지난 토큰이 다시 들어오면 family 폐기 없이 거절만 된다)
+ */
+@Slf4j
+@Component
+public class RefreshTokenSweeper {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final Duration rotatedRetention;
+  private final int batchSize;
+
+  public RefreshTokenSweeper(
+      RefreshTokenRepository refreshTokenRepository,
+      @Value("${discodeit.security.refresh-token.rotated-retention:PT24H}") Duration rotatedRetention,
+      @Value("${discodeit.security.refresh-token.sweep-batch-size:1000}") int batchSize
+  ) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.rotatedRetention = rotatedRetention;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.security.refresh-token.sweep-interval:PT10M}",
+      initialDelayString = "${discodeit.security.refresh-token.sweep-interval:PT10M}")
+  public void scheduledSweep() {
+    sweep();
+  }
+
+  /**
+   * @return 삭제한 토큰 수
+   */
+  public int sweep() {
+    Instant now = Instant.now();
+    Instant rotatedBefore = now.minus(rotatedRetention);
+    int removed = 0;
+    List<UUID> ids;
+    do {
+      ids = refreshTokenRepository.findSweepableIds(now, rotatedBefore,
+          PageRequest.of(0, batchSize));
+      if (!ids.isEmpty()) {
+        refreshTokenRepository.deleteAllByIdInBatch(ids);
+        removed += ids.size();
+      }
+    } while (ids.size() == batchSize);
+
+    if (removed > 0) {
+      log.info("만료된 Refresh Token 정리 완료: count={}", removed);
+    }
+    return removed;
+  }
+}
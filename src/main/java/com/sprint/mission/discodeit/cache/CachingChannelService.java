@@ -0,0 +1,67 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.basic.BasicChannelService;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 단건 조회(find)를 캐시하는 ChannelService
+ * <p>
+ * 참여자의 접속 여부는 반환할 때마다 현재 값으로 채운다. 나머지는 {@link BasicChannelService}에 위임한다.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "discodeit.cache.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CachingChannelService implements ChannelService {
+
+  private final BasicChannelService channelService;
+  private final DtoCache<UUID, ChannelDto> channelDtoCache;
+  private final ChannelMapper channelMapper;
+
+  @Override
+  public ChannelDto create(PublicChannelCreateRequest request) {
+    return channelService.create(request);
+  }
+
+  @Override
+  public ChannelDto create(PrivateChannelCreateRequest request) {
+    return channelService.create(request);
+  }
+
+  @Override
+  public ChannelDto find(UUID channelId) {
+    return channelMapper.withOnline(channelDtoCache.get(channelId, channelService::find));
+  }
+
+  @Override
+  public List<ChannelDto> findAllByUserId(UUID userId) {
+    return channelService.findAllByUserId(userId);
+  }
+
+  @Override
+  public List<UUID> findAccessibleChannelIds(UUID userId, Collection<UUID> channelIds) {
+    return channelService.findAccessibleChannelIds(userId, channelIds);
+  }
+
+  @Override
+  public ChannelDto update(UUID channelId, PublicChannelUpdateRequest request) {
+    return channelService.update(channelId, request);
+  }
+
+  @Override
+  public void delete(UUID channelId) {
+    channelService.delete(channelId);
+  }
+}
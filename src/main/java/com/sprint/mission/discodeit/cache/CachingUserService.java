@@ -0,0 +1,61 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.service.UserService;
+import com.sprint.mission.discodeit.service.basic.BasicUserService;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 단건 조회(find)를 캐시하는 UserService
+ * <p>
+ * - 캐시 적중 시 트랜잭션을 시작하지 않는다. 변경은 {@link BasicUserService}에 위임하고, 무효화는 {@link DtoCacheInvalidator}가 한다.
+ * <p>
+ * - 접속 여부(online)는 자주 바뀌므로 캐시하지 않고 반환할 때마다 현재 값으로 채운다.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "discodeit.cache.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CachingUserService implements UserService {
+
+  private final BasicUserService userService;
+  private final DtoCache<UUID, UserDto> userDtoCache;
+  private final UserMapper userMapper;
+
+  @Override
+  public UserDto create(UserCreateRequest userCreateRequest,
+      Optional<BinaryContentCreateRequest> profileCreateRequest) {
+    return userService.create(userCreateRequest, profileCreateRequest);
+  }
+
+  @Override
+  public UserDto find(UUID userId) {
+    return userMapper.withOnline(userDtoCache.get(userId, userService::find));
+  }
+
+  @Override
+  public List<UserDto> findAll() {
+    return userService.findAll();
+  }
+
+  @Override
+  public UserDto update(UUID userId, UserUpdateRequest userUpdateRequest,
+      Optional<BinaryContentCreateRequest> profileCreateRequest) {
+    return userService.update(userId, userUpdateRequest, profileCreateRequest);
+  }
+
+  @Override
+  public void delete(UUID userId) {
+    userService.delete(userId);
+  }
+}
@@ -0,0 +1,93 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * DTO 2단계 캐시
+ * <p>
+ * - 1단계: 인스턴스별 Caffeine 캐시. 같은 key를 동시에 조회하면 한 스레드만 로딩하고 나머지는 그 결과를 기다린다. (stampede 방지)
+ * <p>
+ * - 2단계: {@link SharedCacheTier}가 있으면 1단계에서 못 찾은 항목을 DB보다 먼저 조회한다.
+ * <p>
+ * - 변경 이벤트를 받은 인스턴스는 두 단계 모두에서 지운다. 다른 인스턴스의 1단계 캐시는 near-ttl이 지나면 2단계에서 다시 읽는다.
+ * <p>
+ * - 지표: cache.gets{cache, result=hit|miss}, cache.load.duration{cache}, cache.shared.gets{cache, result}
+ */
+public class DtoCache<K, V> {
+
+  private final String name;
+  private final Class<V> type;
+  private final Cache<K, V> near;
+  private final SharedCacheTier sharedTier;
+  private final Duration sharedTtl;
+  private final Counter sharedHits;
+  private final Counter sharedMisses;
+
+  public DtoCache(String name, Class<V> type, MeterRegistry meterRegistry, long maximumSize,
+      Duration nearTtl, SharedCacheTier sharedTier, Duration sharedTtl) {
+    this.name = name;
+    this.type = type;
+    this.near = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(nearTtl)
+        .recordStats()
+        .build();
+    this.sharedTier = sharedTier;
+    this.sharedTtl = sharedTtl;
+    this.sharedHits = sharedCounter(meterRegistry, "hit");
+    this.sharedMisses = sharedCounter(meterRegistry, "miss");
+    CaffeineCacheMetrics.monitor(meterRegistry, near, name);
+  }
+
+  /**
+   * loader가 던진 예외는 그대로 전달되고 캐시에 저장되지 않는다.
+   */
+  public V get(K key, Function<K, V> loader) {
+    return near.get(key, k -> loadThroughSharedTier(k, loader));
+  }
+
+  public void evict(K key) {
+    // 진행 중인 로딩이 있으면 끝날 때까지 기다렸다가 지우므로, 로딩 중에 읽은 이전 값이 남지 않는다.
+    near.invalidate(key);
+    if (sharedTier != null) {
+      sharedTier.evict(name, key);
+    }
+  }
+
+  public void clear() {
+    near.invalidateAll();
+    if (sharedTier != null) {
+      sharedTier.clear(name);
+    }
+  }
+
+  private V loadThroughSharedTier(K key, Function<K, V> loader) {
+    if (sharedTier == null) {
+      return loader.apply(key);
+    }
+    Optional<V> shared = sharedTier.get(name, key).filter(type::isInstance).map(type::cast);
+    if (shared.isPresent()) {
+      sharedHits.increment();
+      return shared.get();
+    }
+    sharedMisses.increment();
+    V value = loader.apply(key);
+    sharedTier.put(name, key, value, sharedTtl);
+    return value;
+  }
+
+  private Counter sharedCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("cache.shared.gets")
+        .description("2단계 공유 캐시 조회 수")
+        .tag("cache", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,52 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.event.ChannelChangedEvent;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 변경 이벤트로 DTO 캐시를 무효화한다.
+ * <p>
+ * 커밋 이후에 지우므로, 트랜잭션 도중 다른 요청이 이전 값을 다시 캐시하더라도 커밋 시점에 함께 지워진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DtoCacheInvalidator {
+
+  private final DtoCache<UUID, UserDto> userDtoCache;
+  private final DtoCache<UUID, ChannelDto> channelDtoCache;
+
+  /**
+   * 채널 참여자 목록에 사용자 정보가 포함되므로 채널 캐시도 모두 지운다. (사용자 변경은 드물다)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserChangedEvent event) {
+    userDtoCache.evict(event.userId());
+    channelDtoCache.clear();
+    log.debug("사용자 캐시 무효화: userId={}", event.userId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ChannelChangedEvent event) {
+    channelDtoCache.evict(event.channelId());
+    log.debug("채널 캐시 무효화: channelId={}", event.channelId());
+  }
+
+  /**
+   * 메시지 생성/삭제는 채널의 lastMessageAt을 바꾼다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(MessageEvent event) {
+    if (event.type() != MessageEvent.Type.UPDATED) {
+      channelDtoCache.evict(event.channelId());
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.sprint.mission.discodeit.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내부 메모리를 쓰는 2차 캐시 (테스트, 단일 인스턴스 개발 환경용)
+ * <p>
+ * discodeit.cache.shared.type=in-memory일 때 등록된다. 실제 공유 저장소 구현으로 교체해도 {@link DtoCache}는 그대로 동작한다.
+ */
+@ConditionalOnProperty(name = "discodeit.cache.shared.type", havingValue = "in-memory")
+@Component
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+  private final Map<String, Map<Object, Entry>> caches = new ConcurrentHashMap<>();
+  private final Clock clock;
+
+  @Autowired
+  public InMemorySharedCacheTier() {
+    this(Clock.systemUTC());
+  }
+
+  InMemorySharedCacheTier(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public Optional<Object> get(String cacheName, Object key) {
+    Map<Object, Entry> cache = cache(cacheName);
+    Entry entry = cache.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (!entry.expiresAt().isAfter(clock.instant())) {
+      cache.remove(key, entry);
+      return Optional.empty();
+    }
+    return Optional.of(entry.value());
+  }
+
+  @Override
+  public void put(String cacheName, Object key, Object value, Duration ttl) {
+    cache(cacheName).put(key, new Entry(value, clock.instant().plus(ttl)));
+  }
+
+  @Override
+  public void evict(String cacheName, Object key) {
+    cache(cacheName).remove(key);
+  }
+
+  @Override
+  public void clear(String cacheName) {
+    cache(cacheName).clear();
+  }
+
+  private Map<Object, Entry> cache(String cacheName) {
+    return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+  }
+
+  private record Entry(Object value, Instant expiresAt) {
+
+  }
+}
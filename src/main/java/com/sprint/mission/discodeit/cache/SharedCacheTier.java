@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 공유하는 2차 캐시 (예: Redis)
+ * <p>
+ * 빈이 등록되어 있을 때만 {@link DtoCache}가 사용한다. 로컬 캐시에서 못 찾은 항목은 여기서 먼저 찾고, DB에서 읽은 항목은 여기에도
+ * 저장한다.
+ */
+public interface SharedCacheTier {
+
+  Optional<Object> get(String cacheName, Object key);
+
+  void put(String cacheName, Object key, Object value, Duration ttl);
+
+  void evict(String cacheName, Object key);
+
+  void clear(String cacheName);
+}
@@ -2,9 +2,11 @@ package com.sprint.mission.discodeit.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
 public class AppConfig {
 
 }
\ No newline at end of file
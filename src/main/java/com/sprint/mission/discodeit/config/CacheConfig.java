@@ -0,0 +1,54 @@
+package com.sprint.mission.discodeit.config;
+
+import com.sprint.mission.discodeit.cache.DtoCache;
+import com.sprint.mission.discodeit.cache.SharedCacheTier;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자주 조회되는 DTO 캐시 설정
+ * <p>
+ * - near-ttl: 인스턴스별 캐시 유지 시간 (다른 인스턴스의 변경이 반영되기까지 걸리는 최대 시간)
+ * <p>
+ * - shared.ttl: 2단계 공유 캐시 유지 시간 ({@link SharedCacheTier} 빈이 있을 때만 사용)
+ */
+@Configuration
+public class CacheConfig {
+
+  public static final String USER_CACHE = "userDto";
+  public static final String CHANNEL_CACHE = "channelDto";
+
+  private final MeterRegistry meterRegistry;
+  private final SharedCacheTier sharedCacheTier;
+  private final Duration sharedTtl;
+
+  public CacheConfig(MeterRegistry meterRegistry, ObjectProvider<SharedCacheTier> sharedCacheTier,
+      @Value("${discodeit.cache.shared.ttl:PT10M}") Duration sharedTtl) {
+    this.meterRegistry = meterRegistry;
+    this.sharedCacheTier = sharedCacheTier.getIfAvailable();
+    this.sharedTtl = sharedTtl;
+  }
+
+  @Bean
+  public DtoCache<UUID, UserDto> userDtoCache(
+      @Value("${discodeit.cache.user.maximum-size:10000}") long maximumSize,
+      @Value("${discodeit.cache.user.near-ttl:PT1M}") Duration nearTtl) {
+    return new DtoCache<>(USER_CACHE, UserDto.class, meterRegistry, maximumSize, nearTtl,
+        sharedCacheTier, sharedTtl);
+  }
+
+  @Bean
+  public DtoCache<UUID, ChannelDto> channelDtoCache(
+      @Value("${discodeit.cache.channel.maximum-size:10000}") long maximumSize,
+      @Value("${discodeit.cache.channel.near-ttl:PT1M}") Duration nearTtl) {
+    return new DtoCache<>(CHANNEL_CACHE, ChannelDto.class, meterRegistry, maximumSize, nearTtl,
+        sharedCacheTier, sharedTtl);
+  }
+}
@@ -0,0 +1,138 @@
+package com.sprint.mission.discodeit.config;
+
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 클라이언트 설정
+ * <p>
+ * 클라이언트마다 커넥션 풀을 가지므로 애플리케이션 전체에서 하나씩만 생성해 재사용한다. (종료 시 close)
+ * <p>
+ * - S3Client: 작은 객체 업로드, 조회
+ * <p>
+ * - S3AsyncClient: 큰 객체의 병렬 멀티파트 업로드
+ * <p>
+ * - S3Presigner: 다운로드용 Presigned URL 생성 (네트워크 호출 없음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
+public class S3ClientConfig {
+
+  private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+  private static final Duration SOCKET_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(60);
+
+  private final String accessKey;
+  private final String secretKey;
+  private final String region;
+  private final String endpoint;
+  private final boolean pathStyleAccess;
+  private final int maxConnections;
+  private final long multipartThresholdBytes;
+  private final long multipartPartSizeBytes;
+
+  public S3ClientConfig(
+      @Value("${discodeit.storage.s3.access-key}") String accessKey,
+      @Value("${discodeit.storage.s3.secret-key}") String secretKey,
+      @Value("${discodeit.storage.s3.region}") String region,
+      @Value("${discodeit.storage.s3.endpoint:}") String endpoint,
+      @Value("${discodeit.storage.s3.path-style-access:false}") boolean pathStyleAccess,
+      @Value("${discodeit.storage.s3.max-connections:64}") int maxConnections,
+      @Value("${discodeit.storage.s3.multipart.threshold-bytes:8388608}") long multipartThresholdBytes,
+      @Value("${discodeit.storage.s3.multipart.part-size-bytes:8388608}") long multipartPartSizeBytes
+  ) {
+    this.accessKey = accessKey;
+    this.secretKey = secretKey;
+    this.region = region;
+    this.endpoint = endpoint;
+    this.pathStyleAccess = pathStyleAccess;
+    this.maxConnections = maxConnections;
+    this.multipartThresholdBytes = multipartThresholdBytes;
+    this.multipartPartSizeBytes = multipartPartSizeBytes;
+  }
+
+  @Bean
+  public S3Client s3Client() {
+    S3ClientBuilder builder = S3Client.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(serviceConfiguration())
+        .httpClientBuilder(ApacheHttpClient.builder()
+            .maxConnections(maxConnections)
+            .connectionTimeout(CONNECTION_TIMEOUT)
+            .socketTimeout(SOCKET_TIMEOUT)
+            .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+            .tcpKeepAlive(true));
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  /**
+   * multipartEnabled: threshold 이상인 업로드는 part 단위로 나누어 동시에 전송한다.
+   */
+  @Bean
+  public S3AsyncClient s3AsyncClient() {
+    S3AsyncClientBuilder builder = S3AsyncClient.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(serviceConfiguration())
+        .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+            .maxConcurrency(maxConnections)
+            .connectionTimeout(CONNECTION_TIMEOUT)
+            .readTimeout(SOCKET_TIMEOUT)
+            .writeTimeout(SOCKET_TIMEOUT)
+            .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+            .tcpKeepAlive(true))
+        .multipartEnabled(true)
+        .multipartConfiguration(multipart -> multipart
+            .thresholdInBytes(multipartThresholdBytes)
+            .minimumPartSizeInBytes(multipartPartSizeBytes));
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  @Bean
+  public S3Presigner s3Presigner() {
+    S3Presigner.Builder builder = S3Presigner.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(serviceConfiguration());
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  private StaticCredentialsProvider credentialsProvider() {
+    return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+  }
+
+  /**
+   * 세 클라이언트가 같은 주소 방식(path-style 여부)으로 버킷에 접근하도록 모두 이 설정을 사용한다.
+   */
+  private S3Configuration serviceConfiguration() {
+    return S3Configuration.builder()
+        .pathStyleAccessEnabled(pathStyleAccess)
+        .build();
+  }
+}
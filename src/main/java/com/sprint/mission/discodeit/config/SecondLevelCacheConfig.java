@@ -0,0 +1,67 @@
+package com.sprint.mission.discodeit.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine)
+ * <p>
+ * - 변경보다 조회가 훨씬 많은 User, Channel, BinaryContent만 region을 두고 캐시한다. (READ_WRITE)
+ * <p>
+ * - region마다 최대 항목 수와 유지 시간을 따로 설정한다. 설정되지 않은 region을 쓰는 엔티티가 생기면 기동 시 실패한다.
+ * <p>
+ * - 캐시는 인스턴스별이므로, 다른 인스턴스의 변경은 region의 ttl이 지나야 반영된다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  public static final String USER_REGION = "user";
+  public static final String CHANNEL_REGION = "channel";
+  public static final String BINARY_CONTENT_REGION = "binaryContent";
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+      @Value("${discodeit.second-level-cache.user.maximum-size:10000}") long userMaximumSize,
+      @Value("${discodeit.second-level-cache.user.ttl:PT10M}") Duration userTtl,
+      @Value("${discodeit.second-level-cache.channel.maximum-size:10000}") long channelMaximumSize,
+      @Value("${discodeit.second-level-cache.channel.ttl:PT10M}") Duration channelTtl,
+      @Value("${discodeit.second-level-cache.binary-content.maximum-size:50000}") long binaryContentMaximumSize,
+      @Value("${discodeit.second-level-cache.binary-content.ttl:PT30M}") Duration binaryContentTtl,
+      @Value("${discodeit.second-level-cache.query-results.maximum-size:10000}") long queryResultsMaximumSize,
+      @Value("${discodeit.second-level-cache.query-results.ttl:PT5M}") Duration queryResultsTtl) {
+    // 컨텍스트마다 별도의 CacheManager를 사용한다. (기본 provider는 JVM 전역에서 공유됨)
+    CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+    cacheManager.createCache(USER_REGION, region(userMaximumSize, userTtl));
+    cacheManager.createCache(CHANNEL_REGION, region(channelMaximumSize, channelTtl));
+    cacheManager.createCache(BINARY_CONTENT_REGION,
+        region(binaryContentMaximumSize, binaryContentTtl));
+    cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        region(queryResultsMaximumSize, queryResultsTtl));
+    // 테이블별 마지막 변경 시각 (query cache 무효화 기준이므로 제거되면 안 된다)
+    cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        new CaffeineConfiguration<>().setStoreByValue(false));
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+
+  private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration ttl) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setStoreByValue(false);
+    configuration.setMaximumSize(OptionalLong.of(maximumSize));
+    configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    return configuration;
+  }
+}
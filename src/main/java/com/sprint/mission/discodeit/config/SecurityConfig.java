@@ -1,16 +1,26 @@
 package com.sprint.mission.discodeit.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.auth.filter.JwtAuthenticationFilter;
 import com.sprint.mission.discodeit.auth.handler.JwtLoginSuccessHandler;
+import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
 import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.BoundedPasswordEncoder;
+import com.sprint.mission.discodeit.security.DiscodeitAuthenticationProvider;
 import com.sprint.mission.discodeit.security.Http403ForbiddenAccessDeniedHandler;
+import com.sprint.mission.discodeit.security.IndexedSessionRegistry;
 import com.sprint.mission.discodeit.security.LoginFailureHandler;
+import com.sprint.mission.discodeit.security.PresenceLogoutHandler;
+import com.sprint.mission.discodeit.security.PresenceRegistry;
 import com.sprint.mission.discodeit.security.SpaCsrfTokenRequestHandler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import java.util.stream.IntStream;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,12 +36,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
@@ -48,7 +59,9 @@ public class SecurityConfig {
             HttpSecurity http,
             JwtLoginSuccessHandler jwtLoginSuccessHandler,
             LoginFailureHandler loginFailureHandler,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            JwtTokenProvider jwtTokenProvider,
+            PresenceRegistry presenceRegistry
     )
             throws Exception {
         http
@@ -63,10 +76,13 @@ public class SecurityConfig {
                 )
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
+                        .addLogoutHandler(new PresenceLogoutHandler(presenceRegistry))
                         .logoutSuccessHandler(
                                 new HttpStatusReturningLogoutSuccessHandler(HttpStatus.NO_CONTENT))
                 )
                 .authorizeHttpRequests(auth -> auth
+                        /* SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨 */
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/auth/csrf-token"),
                                 AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/api/users"),
@@ -84,6 +100,9 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .rememberMe(Customizer.withDefaults())
+                /* 로그아웃 핸들러가 토큰의 사용자를 알 수 있도록 LogoutFilter보다 먼저 인증 */
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, presenceRegistry),
+                        LogoutFilter.class)
         ;
         return http.build();
     }
@@ -100,9 +119,23 @@ public class SecurityConfig {
         };
     }
 
+    /**
+     * strength: BCrypt cost (올리면 기존 해시는 다음 로그인 성공 시 새 cost로 다시 저장된다)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${discodeit.security.password.bcrypt-strength:10}") int strength,
+            @Value("${discodeit.security.password.hashing-threads:4}") int threads,
+            @Value("${discodeit.security.password.queue-capacity:64}") int queueCapacity) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry,
+                threads, queueCapacity);
+    }
+
+    @Bean
+    public DiscodeitAuthenticationProvider authenticationProvider(
+            UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        return new DiscodeitAuthenticationProvider(userDetailsService, passwordEncoder);
     }
 
     @Bean
@@ -126,8 +159,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SessionRegistry sessionRegistry() {
-        return new SessionRegistryImpl();
+    public SessionRegistry sessionRegistry(PresenceRegistry presenceRegistry) {
+        return new IndexedSessionRegistry(presenceRegistry);
     }
 
     @Bean
@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.config;
+
+import com.sprint.mission.discodeit.entity.base.AssignableUuidGenerator;
+import com.sprint.mission.discodeit.entity.base.UuidStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 ID 생성 방식 ({@link UuidStrategy})
+ * <p>
+ * - spring.jpa.properties.discodeit.id.uuid-strategy를 여기서 한 번만 해석한다.
+ * <p>
+ * - 해석한 값을 Hibernate 설정에도 그대로 넘기므로 {@link AssignableUuidGenerator}와, 엔티티 밖에서 ID를 미리 만드는 곳(staged
+ * upload, refresh token family)이 항상 같은 방식을 쓴다.
+ */
+@Configuration
+public class UuidStrategyConfig {
+
+  @Bean
+  public UuidStrategy uuidStrategy(JpaProperties jpaProperties) {
+    return UuidStrategy.from(jpaProperties.getProperties().get(UuidStrategy.SETTING));
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer uuidStrategyCustomizer(UuidStrategy uuidStrategy) {
+    return hibernateProperties -> hibernateProperties.put(UuidStrategy.SETTING, uuidStrategy);
+  }
+}
@@ -1,7 +1,12 @@
 package com.sprint.mission.discodeit.config;
 
+import com.sprint.mission.discodeit.storage.local.FileChannelTransfer;
+import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -21,4 +26,20 @@ public class WebMvcConfig implements WebMvcConfigurer {
     registry.addInterceptor(mdcLoggingInterceptor())
         .addPathPatterns("/**"); // 모든 경로에 적용
   }
-}
\ No newline at end of file
+
+  /**
+   * 파일 리소스 응답은 FileChannel.transferTo로 전송하도록 기본 Resource 컨버터를 같은 위치에서 교체
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.replaceAll(converter -> {
+      if (converter.getClass() == ResourceHttpMessageConverter.class) {
+        return new FileChannelTransfer.ResourceConverter();
+      }
+      if (converter.getClass() == ResourceRegionHttpMessageConverter.class) {
+        return new FileChannelTransfer.ResourceRegionConverter();
+      }
+      return converter;
+    });
+  }
+}
@@ -3,7 +3,7 @@ package com.sprint.mission.discodeit.controller;
 import com.sprint.mission.discodeit.controller.api.AuthApi;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.RoleUpdateRequest;
-import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.security.DiscodeitPrincipal;
 import com.sprint.mission.discodeit.service.AuthService;
 import com.sprint.mission.discodeit.service.UserService;
 import java.util.UUID;
@@ -38,9 +38,9 @@ public class AuthController implements AuthApi {
   }
 
   @GetMapping("me")
-  public ResponseEntity<UserDto> me(@AuthenticationPrincipal DiscodeitUserDetails userDetails) {
+  public ResponseEntity<UserDto> me(@AuthenticationPrincipal DiscodeitPrincipal principal) {
     log.info("내 정보 조회 요청");
-    UUID userId = userDetails.getUserDto().id();
+    UUID userId = principal.getUserId();
     UserDto userDto = userService.find(userId);
     return ResponseEntity
         .status(HttpStatus.OK)
@@ -49,9 +49,12 @@ public class BinaryContentController implements BinaryContentApi {
 
   @GetMapping(path = "{binaryContentId}/download")
   public ResponseEntity<?> download(
-      @PathVariable("binaryContentId") UUID binaryContentId) {
-    log.info("바이너리 컨텐츠 다운로드 요청: id={}", binaryContentId);
-    BinaryContentDto binaryContentDto = binaryContentService.find(binaryContentId);
+      @PathVariable("binaryContentId") UUID binaryContentId,
+      @RequestParam(value = "size", required = false) Integer size) {
+    log.info("바이너리 컨텐츠 다운로드 요청: id={}, size={}", binaryContentId, size);
+    BinaryContentDto binaryContentDto = size != null
+        ? binaryContentService.findForDownload(binaryContentId, size)
+        : binaryContentService.find(binaryContentId);
     ResponseEntity<?> response = binaryContentStorage.download(binaryContentDto);
     log.debug("바이너리 컨텐츠 다운로드 응답: contentType={}, contentLength={}", 
         response.getHeaders().getContentType(), response.getHeaders().getContentLength());
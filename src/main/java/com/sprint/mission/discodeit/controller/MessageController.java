@@ -7,9 +7,8 @@ import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.storage.staging.UploadStager;
 import jakarta.validation.Valid;
-import java.io.IOException;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MessageController implements MessageApi {
 
   private final MessageService messageService;
+  private final UploadStager uploadStager;
 
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<MessageDto> create(
@@ -51,19 +51,9 @@ public class MessageController implements MessageApi {
         messageCreateRequest, attachments != null ? attachments.size() : 0);
     
     List<BinaryContentCreateRequest> attachmentRequests = Optional.ofNullable(attachments)
-        .map(files -> files.stream()
-            .map(file -> {
-              try {
-                return new BinaryContentCreateRequest(
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getBytes()
-                );
-              } catch (IOException e) {
-                throw new RuntimeException(e);
-              }
-            })
-            .toList())
+        .map(files -> uploadStager.stageAll(files.stream()
+            .map(BinaryContentCreateRequest::from)
+            .toList()))
         .orElse(new ArrayList<>());
     MessageDto createdMessage = messageService.create(messageCreateRequest, attachmentRequests);
     log.debug("메시지 생성 응답: {}", createdMessage);
@@ -97,18 +87,15 @@ public class MessageController implements MessageApi {
   @GetMapping
   public ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
       @RequestParam("channelId") UUID channelId,
-      @RequestParam(value = "cursor", required = false) Instant cursor,
-      @PageableDefault(
-          size = 50,
-          page = 0,
-          sort = "createdAt",
-          direction = Direction.DESC
-      ) Pageable pageable) {
-    log.info("채널별 메시지 목록 조회 요청: channelId={}, cursor={}, pageable={}", 
-        channelId, cursor, pageable);
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "direction", defaultValue = "DESC") Direction direction,
+      @PageableDefault(size = 50) Pageable pageable) {
+    log.info("채널별 메시지 목록 조회 요청: channelId={}, cursor={}, direction={}, size={}",
+        channelId, cursor, direction, pageable.getPageSize());
     PageResponse<MessageDto> messages = messageService.findAllByChannelId(channelId, cursor,
-        pageable);
-    log.debug("채널별 메시지 목록 조회 응답: totalElements={}", messages.totalElements());
+        direction, pageable);
+    log.debug("채널별 메시지 목록 조회 응답: size={}, hasNext={}", messages.content().size(),
+        messages.hasNext());
     return ResponseEntity
         .status(HttpStatus.OK)
         .body(messages);
@@ -0,0 +1,38 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.controller.api.SseApi;
+import com.sprint.mission.discodeit.security.DiscodeitPrincipal;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.sse.MessageEventHub;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/sse")
+public class SseController implements SseApi {
+
+  private final ChannelService channelService;
+  private final MessageEventHub messageEventHub;
+
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe(
+      @AuthenticationPrincipal DiscodeitPrincipal principal,
+      @RequestParam(value = "channelIds", required = false) List<UUID> channelIds) {
+    UUID userId = principal.getUserId();
+    log.info("SSE 구독 요청: userId={}, channelIds={}", userId, channelIds);
+    List<UUID> accessibleChannelIds = channelService.findAccessibleChannelIds(userId,
+        channelIds != null ? channelIds : List.of());
+    return messageEventHub.subscribe(userId, accessibleChannelIds);
+  }
+}
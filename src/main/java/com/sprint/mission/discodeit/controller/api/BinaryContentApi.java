@@ -52,6 +52,7 @@ public interface BinaryContentApi {
       )
   })
   ResponseEntity<?> download(
-      @Parameter(description = "다운로드할 파일 ID") UUID binaryContentId
+      @Parameter(description = "다운로드할 파일 ID") UUID binaryContentId,
+      @Parameter(description = "표시할 크기(px). 이 크기 이상인 가장 작은 축소본을 반환하며, 없으면 원본을 반환") Integer size
   );
 } 
\ No newline at end of file
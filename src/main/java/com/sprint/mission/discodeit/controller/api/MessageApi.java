@@ -12,10 +12,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
@@ -84,7 +84,8 @@ public interface MessageApi {
   })
   ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
       @Parameter(description = "조회할 Channel ID") UUID channelId,
-      @Parameter(description = "페이징 커서 정보") Instant cursor,
-      @Parameter(description = "페이징 정보", example = "{\"size\": 50, \"sort\": \"createdAt,desc\"}") Pageable pageable
+      @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
+      @Parameter(description = "조회 방향 (DESC: 커서 이전 메시지, ASC: 커서 이후 메시지)") Direction direction,
+      @Parameter(description = "페이징 정보", example = "{\"size\": 50}") Pageable pageable
   );
 } 
\ No newline at end of file
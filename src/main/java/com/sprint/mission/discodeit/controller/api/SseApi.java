@@ -0,0 +1,26 @@
+package com.sprint.mission.discodeit.controller.api;
+
+import com.sprint.mission.discodeit.security.DiscodeitPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "SSE", description = "실시간 이벤트 API")
+public interface SseApi {
+
+  @Operation(summary = "채널 메시지 이벤트 구독",
+      description = "message.created, message.updated, message.deleted 이벤트를 text/event-stream으로 전달합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "구독 성공"),
+      @ApiResponse(responseCode = "403", description = "인증되지 않은 요청")
+  })
+  SseEmitter subscribe(
+      @Parameter(hidden = true) DiscodeitPrincipal principal,
+      @Parameter(description = "구독할 Channel ID 목록 (생략 시 볼 수 있는 채널 전체)") List<UUID> channelIds
+  );
+}
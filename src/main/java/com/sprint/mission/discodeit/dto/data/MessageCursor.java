@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.exception.message.InvalidMessageCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 메시지 목록 keyset 커서
+ * <p>
+ * (createdAt, id) 튜플로 정렬 위치를 나타내며, 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record MessageCursor(Instant createdAt, UUID id) {
+
+  private static final String DELIMITER = "_";
+
+  public String encode() {
+    String raw = createdAt.getEpochSecond() + "." + createdAt.getNano() + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  public static MessageCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+      String[] parts = raw.split(DELIMITER, 2);
+      String[] timestamp = parts[0].split("\\.", 2);
+      Instant createdAt = Instant.ofEpochSecond(Long.parseLong(timestamp[0]),
+          Long.parseLong(timestamp[1]));
+      return new MessageCursor(createdAt, UUID.fromString(parts[1]));
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+      throw InvalidMessageCursorException.withCursor(cursor);
+    }
+  }
+}
@@ -2,8 +2,18 @@ package com.sprint.mission.discodeit.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import java.util.UUID;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 파일 내용은 byte[] 대신 {@link InputStreamSource}로 전달해 저장소까지 스트림으로 복사한다.
+ * <p>
+ * stagedId가 있으면 내용은 이미 그 key로 저장소에 업로드된 상태이며, 서비스는 메타데이터만 저장한다.
+ */
 public record BinaryContentCreateRequest(
     @NotBlank(message = "파일 이름은 필수입니다")
     @Size(max = 255, message = "파일 이름은 255자 이하여야 합니다")
@@ -11,9 +21,36 @@ public record BinaryContentCreateRequest(
     
     @NotBlank(message = "콘텐츠 타입은 필수입니다")
     String contentType,
-    
+
+    @PositiveOrZero(message = "파일 크기는 0 이상이어야 합니다")
+    long size,
+
     @NotNull(message = "파일 데이터는 필수입니다")
-    byte[] bytes
+    InputStreamSource content,
+
+    UUID stagedId
 ) {
 
+  public static BinaryContentCreateRequest from(MultipartFile file) {
+    return new BinaryContentCreateRequest(
+        file.getOriginalFilename(),
+        file.getContentType(),
+        file.getSize(),
+        file,
+        null
+    );
+  }
+
+  public static BinaryContentCreateRequest of(String fileName, String contentType, byte[] bytes) {
+    return new BinaryContentCreateRequest(fileName, contentType, bytes.length,
+        new ByteArrayResource(bytes), null);
+  }
+
+  public BinaryContentCreateRequest staged(UUID stagedId) {
+    return new BinaryContentCreateRequest(fileName, contentType, size, content, stagedId);
+  }
+
+  public boolean isStaged() {
+    return stagedId != null;
+  }
 }
@@ -1,18 +1,30 @@
 package com.sprint.mission.discodeit.entity;
 
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
 import com.sprint.mission.discodeit.entity.base.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "binary_contents")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BINARY_CONTENT_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class BinaryContent extends BaseEntity {
+public class BinaryContent extends BaseEntity implements Persistable<UUID> {
 
   @Column(nullable = false)
   private String fileName;
@@ -20,10 +32,44 @@ public class BinaryContent extends BaseEntity {
   private Long size;
   @Column(length = 100, nullable = false)
   private String contentType;
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "blob_id", columnDefinition = "uuid")
+  private Blob blob;
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean persisted;
 
   public BinaryContent(String fileName, Long size, String contentType) {
     this.fileName = fileName;
     this.size = size;
     this.contentType = contentType;
   }
+
+  /**
+   * 저장소에 먼저 업로드된 파일(staged upload)의 key를 ID로 사용한다.
+   */
+  public BinaryContent(UUID id, String fileName, Long size, String contentType) {
+    super(id);
+    this.fileName = fileName;
+    this.size = size;
+    this.contentType = contentType;
+  }
+
+  /**
+   * ID가 미리 지정된 경우에도 merge(SELECT 후 INSERT)가 아닌 persist로 저장되도록 한다.
+   */
+  @Override
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostPersist
+  @PostLoad
+  void markPersisted() {
+    this.persisted = true;
+  }
+
+  public void assignBlob(Blob blob) {
+    this.blob = blob;
+  }
 }
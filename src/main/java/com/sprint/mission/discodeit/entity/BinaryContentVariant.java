@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 이미지 BinaryContent의 축소본
+ * <p>
+ * width는 긴 변의 최대 픽셀 수이다. 원본이 삭제되면 binaryContent가 null이 되고, {@link
+ * com.sprint.mission.discodeit.image.OrphanVariantCollector}가 저장소의 파일과 함께 지운다.
+ */
+@Entity
+@Table(name = "binary_content_variants",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"binary_content_id", "width"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BinaryContentVariant extends BaseEntity {
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "binary_content_id", columnDefinition = "uuid")
+  @OnDelete(action = OnDeleteAction.SET_NULL)
+  private BinaryContent binaryContent;
+  @Column(nullable = false)
+  private Integer width;
+  @Column(nullable = false)
+  private Long size;
+  @Column(length = 100, nullable = false)
+  private String contentType;
+
+  public BinaryContentVariant(BinaryContent binaryContent, Integer width, Long size,
+      String contentType) {
+    this.binaryContent = binaryContent;
+    this.width = width;
+    this.size = size;
+    this.contentType = contentType;
+  }
+}
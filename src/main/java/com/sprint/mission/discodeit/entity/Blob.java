@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 내용 기반(content-addressed) 저장소에 한 번만 저장되는 파일 본문
+ * <p>
+ * ID는 SHA-256 digest에서 결정적으로 만들어지므로 같은 내용은 항상 같은 저장소 key를 가진다. 참조 수는 이 Blob을 가리키는
+ * binary_contents 행의 수이며, 참조가 없는 Blob은 GC 대상이 된다.
+ */
+@Entity
+@Table(name = "blobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class Blob {
+
+  @Id
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+  private UUID id;
+
+  @Column(length = 64, nullable = false, unique = true, updatable = false)
+  private String digest;
+
+  @Column(nullable = false, updatable = false)
+  private Long size;
+
+  @CreatedDate
+  @Column(columnDefinition = "timestamp with time zone", updatable = false, nullable = false)
+  private Instant createdAt;
+
+  public Blob(UUID id, String digest, Long size) {
+    this.id = id;
+    this.digest = digest;
+    this.size = size;
+  }
+}
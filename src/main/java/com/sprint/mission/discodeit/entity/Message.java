@@ -5,6 +5,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToOne;
@@ -18,7 +19,12 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "messages")
+@Table(
+    name = "messages",
+    indexes = {
+        @Index(name = "idx_messages_channel_id_created_at", columnList = "channel_id, created_at, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Message extends BaseUpdatableEntity {
@@ -36,7 +42,10 @@ public class Message extends BaseUpdatableEntity {
   @JoinTable(
       name = "message_attachments",
       joinColumns = @JoinColumn(name = "message_id"),
-      inverseJoinColumns = @JoinColumn(name = "attachment_id")
+      inverseJoinColumns = @JoinColumn(name = "attachment_id"),
+      indexes = {
+          @Index(name = "idx_message_attachments_attachment_id", columnList = "attachment_id")
+      }
   )
   private List<BinaryContent> attachments = new ArrayList<>();
 
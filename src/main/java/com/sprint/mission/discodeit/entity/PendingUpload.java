@@ -0,0 +1,71 @@
+package com.sprint.mission.discodeit.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 저장소에 먼저 업로드했지만 아직 BinaryContent로 등록되지 않은 파일
+ * <p>
+ * ID는 저장소 key이자 등록될 BinaryContent의 ID이다. BinaryContent를 저장하는 트랜잭션에서 함께 삭제되며(승격), 남아 있는
+ * 항목은 {@link com.sprint.mission.discodeit.storage.staging.PendingUploadReconciler}가 정리한다.
+ * <p>
+ * 내용 기반 저장 모드에서는 파일이 Blob ID를 key로 저장되므로, 승격 시 BinaryContent에 연결할 Blob을 함께 기록한다.
+ */
+@Entity
+@Table(name = "pending_uploads")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PendingUpload implements Persistable<UUID> {
+
+  @Id
+  @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+  private UUID id;
+
+  @CreatedDate
+  @Column(columnDefinition = "timestamp with time zone", updatable = false, nullable = false)
+  private Instant createdAt;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "blob_id", columnDefinition = "uuid")
+  private Blob blob;
+
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean persisted;
+
+  public PendingUpload(UUID id) {
+    this.id = id;
+  }
+
+  /**
+   * ID를 직접 지정하므로 merge(SELECT 후 INSERT) 대신 persist로 저장되도록 한다.
+   */
+  @Override
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostPersist
+  @PostLoad
+  void markPersisted() {
+    this.persisted = true;
+  }
+}
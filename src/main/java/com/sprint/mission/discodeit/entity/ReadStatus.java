@@ -4,6 +4,7 @@ import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,6 +19,9 @@ import lombok.NoArgsConstructor;
     name = "read_statuses",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "channel_id"})
+    },
+    indexes = {
+        @Index(name = "idx_read_statuses_channel_id_user_id", columnList = "channel_id, user_id")
     }
 )
 @Getter
@@ -5,30 +5,48 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
-
+import java.util.UUID;
+
+/**
+ * 발급한 Refresh Token
+ * <p>
+ * - 원본 JWT 대신 SHA-256 digest만 저장한다. (고정 길이 32바이트 unique 인덱스)
+ * <p>
+ * - 로그인 시 새 family가 만들어지고, 재발급된 토큰은 같은 family를 이어받는다. 이미 재발급된(rotatedAt이 있는) 토큰이 다시
+ * 사용되면 family 전체를 폐기한다.
+ */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_tokens_rotated_at", columnList = "rotated_at")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor()
 @Getter
 @Builder
 public class RefreshToken extends BaseEntity {
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    public static final int TOKEN_HASH_LENGTH = 32;
+
+    @Column(nullable = false, unique = true, length = TOKEN_HASH_LENGTH)
+    private byte[] tokenHash;
+
+    @Column(columnDefinition = "uuid", nullable = false, updatable = false)
+    private UUID familyId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", columnDefinition = "uuid", nullable = false)
     private User user;
 
-    @Column(nullable = true)
-    private Instant expiredAt;
-
-    @Column(nullable = false)
-    private Boolean rotated; // 토큰이 재발급된 경우 true
+    @Column(columnDefinition = "timestamp with time zone", nullable = false)
+    private Instant expiresAt;
 
-    public void invalidate() {
-        this.expiredAt = Instant.now();
-        rotated = true;
-    }
+    // 재발급된 시각 (null이면 아직 사용 가능)
+    @Column(columnDefinition = "timestamp with time zone")
+    private Instant rotatedAt;
 }
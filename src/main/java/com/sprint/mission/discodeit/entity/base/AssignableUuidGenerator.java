@@ -0,0 +1,56 @@
+package com.sprint.mission.discodeit.entity.base;
+
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * UUID 식별자 생성기
+ * <p>
+ * 저장 전에 ID가 지정되어 있으면 그대로 사용한다. (저장소에 먼저 업로드한 파일의 key를 BinaryContent ID로 쓰는 경우)
+ * <p>
+ * 지정되지 않았으면 애플리케이션에서 {@link UuidStrategy}(기본값 v7, 시간 순서)로 만든다. DB 왕복 없이 ID가 정해지므로 JDBC
+ * batch insert를 그대로 사용할 수 있다.
+ */
+public class AssignableUuidGenerator implements BeforeExecutionGenerator {
+
+  private volatile UuidStrategy strategy;
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner,
+      Object currentValue, EventType eventType) {
+    // persist 시 currentValue는 항상 null로 전달되므로 엔티티에서 직접 읽는다.
+    Object assignedId = session.getEntityPersister(null, owner).getIdentifier(owner, session);
+    return assignedId != null ? assignedId : strategy(session).generate();
+  }
+
+  /**
+   * 생성 방식은 Hibernate 설정({@link UuidStrategy#SETTING})에서 처음 사용할 때 한 번 읽는다. (생성기는 Spring 빈으로도 만들어지므로
+   * 생성자에서 설정을 받지 않음)
+   * <p>
+   * 애플리케이션에서는 UuidStrategyConfig가 해석해 둔 {@link UuidStrategy} 빈이 그대로 들어 있다. 문자열이면 설정 클래스 없이 뜬 슬라이스
+   * 테스트이므로 같은 규칙으로 해석한다.
+   */
+  private UuidStrategy strategy(SharedSessionContractImplementor session) {
+    UuidStrategy resolved = strategy;
+    if (resolved == null) {
+      Object setting = session.getFactory().getProperties().get(UuidStrategy.SETTING);
+      resolved = setting instanceof UuidStrategy configured
+          ? configured : UuidStrategy.from(setting != null ? setting.toString() : null);
+      strategy = resolved;
+    }
+    return resolved;
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+  @Override
+  public boolean allowAssignedIdentifiers() {
+    return true;
+  }
+}
@@ -2,8 +2,6 @@ package com.sprint.mission.discodeit.entity.base;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import java.time.Instant;
@@ -21,11 +19,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public abstract class BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedUuid
   @Column(columnDefinition = "uuid", updatable = false, nullable = false)
   private UUID id;
 
   @CreatedDate
   @Column(columnDefinition = "timestamp with time zone", updatable = false, nullable = false)
   private Instant createdAt;
+
+  /**
+   * ID를 미리 정해 둔 엔티티 (저장 시 생성하지 않음)
+   */
+  protected BaseEntity(UUID id) {
+    this.id = id;
+  }
 }
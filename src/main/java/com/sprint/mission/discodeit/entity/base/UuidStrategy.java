@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.entity.base;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 엔티티 ID 생성 방식
+ * <p>
+ * spring.jpa.properties.discodeit.id.uuid-strategy(v4 | v7)로 선택한다. 두 방식 모두 같은 uuid 컬럼에 저장되므로 기존 데이터와
+ * 섞여도 문제없다.
+ */
+public enum UuidStrategy {
+
+  /**
+   * 완전 난수 (PK 인덱스 전체에 흩어져 삽입됨)
+   */
+  V4(UUID::randomUUID),
+
+  /**
+   * 시간 순서 ({@link UuidV7}, PK 인덱스 끝에 삽입됨)
+   */
+  V7(UuidV7::generate);
+
+  public static final String SETTING = "discodeit.id.uuid-strategy";
+
+  private final Supplier<UUID> generator;
+
+  UuidStrategy(Supplier<UUID> generator) {
+    this.generator = generator;
+  }
+
+  public UUID generate() {
+    return generator.get();
+  }
+
+  public static UuidStrategy from(String value) {
+    return value == null || value.isBlank() ? V7 : valueOf(value.trim().toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+/**
+ * 파일 본문 저장이 끝난 BinaryContent (커밋 이후 후처리용)
+ */
+public record BinaryContentCreatedEvent(
+    UUID binaryContentId,
+    String contentType
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+/**
+ * 채널 정보나 참여자가 바뀌거나 삭제됨 (커밋 이후 캐시 무효화용)
+ */
+public record ChannelChangedEvent(
+    UUID channelId
+) {
+
+}
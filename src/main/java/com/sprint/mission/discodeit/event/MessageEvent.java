@@ -0,0 +1,45 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import java.util.UUID;
+
+/**
+ * 메시지 생성/수정/삭제 이벤트
+ * <p>
+ * 트랜잭션 커밋 이후 채널 구독자에게 전달된다. 삭제 이벤트는 message가 null이다.
+ */
+public record MessageEvent(
+    Type type,
+    UUID channelId,
+    UUID messageId,
+    MessageDto message
+) {
+
+  public static MessageEvent created(MessageDto message) {
+    return new MessageEvent(Type.CREATED, message.channelId(), message.id(), message);
+  }
+
+  public static MessageEvent updated(MessageDto message) {
+    return new MessageEvent(Type.UPDATED, message.channelId(), message.id(), message);
+  }
+
+  public static MessageEvent deleted(UUID channelId, UUID messageId) {
+    return new MessageEvent(Type.DELETED, channelId, messageId, null);
+  }
+
+  public enum Type {
+    CREATED("message.created"),
+    UPDATED("message.updated"),
+    DELETED("message.deleted");
+
+    private final String eventName;
+
+    Type(String eventName) {
+      this.eventName = eventName;
+    }
+
+    public String eventName() {
+      return eventName;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 정보(이름, 이메일, 프로필, 권한)가 바뀌거나 삭제됨 (커밋 이후 캐시 무효화용)
+ */
+public record UserChangedEvent(
+    UUID userId
+) {
+
+}
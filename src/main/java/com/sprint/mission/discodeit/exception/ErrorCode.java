@@ -8,6 +8,8 @@ public enum ErrorCode {
   USER_NOT_FOUND("사용자를 찾을 수 없습니다."),
   DUPLICATE_USER("이미 존재하는 사용자입니다."),
   INVALID_USER_CREDENTIALS("잘못된 사용자 인증 정보입니다."),
+  INVALID_REFRESH_TOKEN("유효하지 않은 Refresh Token입니다."),
+  PASSWORD_HASHING_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
   // Channel 관련 에러 코드
   CHANNEL_NOT_FOUND("채널을 찾을 수 없습니다."),
@@ -15,6 +17,7 @@ public enum ErrorCode {
 
   // Message 관련 에러 코드
   MESSAGE_NOT_FOUND("메시지를 찾을 수 없습니다."),
+  INVALID_MESSAGE_CURSOR("잘못된 메시지 커서입니다."),
 
   // BinaryContent 관련 에러 코드
   BINARY_CONTENT_NOT_FOUND("바이너리 컨텐츠를 찾을 수 없습니다."),
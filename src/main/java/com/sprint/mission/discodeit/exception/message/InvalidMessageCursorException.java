@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.exception.message;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class InvalidMessageCursorException extends MessageException {
+    public InvalidMessageCursorException() {
+        super(ErrorCode.INVALID_MESSAGE_CURSOR);
+    }
+
+    public static InvalidMessageCursorException withCursor(String cursor) {
+        InvalidMessageCursorException exception = new InvalidMessageCursorException();
+        exception.addDetail("cursor", cursor);
+        return exception;
+    }
+}
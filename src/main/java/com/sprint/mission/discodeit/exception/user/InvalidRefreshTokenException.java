@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class InvalidRefreshTokenException extends UserException {
+    public InvalidRefreshTokenException() {
+        super(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    public static InvalidRefreshTokenException invalid() {
+        return new InvalidRefreshTokenException();
+    }
+
+    /**
+     * 이미 재발급된 토큰이 다시 사용됨 (같은 family의 토큰은 모두 폐기됨)
+     */
+    public static InvalidRefreshTokenException reused(int revokedCount) {
+        InvalidRefreshTokenException exception = new InvalidRefreshTokenException();
+        exception.addDetail("reused", true);
+        exception.addDetail("revokedCount", revokedCount);
+        return exception;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class PasswordHashingBusyException extends UserException {
+    public PasswordHashingBusyException() {
+        super(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    public static PasswordHashingBusyException queueFull(int queueCapacity) {
+        PasswordHashingBusyException exception = new PasswordHashingBusyException();
+        exception.addDetail("queueCapacity", queueCapacity);
+        return exception;
+    }
+}
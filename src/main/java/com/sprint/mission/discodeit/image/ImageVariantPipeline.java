@@ -0,0 +1,223 @@
+package com.sprint.mission.discodeit.image;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentVariant;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentVariantRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이미지 축소본 생성 파이프라인
+ * <p>
+ * - 업로드 트랜잭션이 커밋된 뒤 고정 크기 스레드 풀에서 원본을 읽어 widths(긴 변 기준)마다 축소본을 만든다.
+ * <p>
+ * - 대기열이 가득 차면 해당 이미지는 건너뛴다. 축소본이 없으면 다운로드 시 원본을 내려주므로 기능에는 영향이 없다.
+ * <p>
+ * - 원본보다 크거나 같은 축소본은 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageVariantPipeline {
+
+  private static final Set<String> JPEG_TYPES = Set.of("image/jpeg", "image/jpg");
+
+  private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentStorage variantStorage;
+  private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentVariantRepository binaryContentVariantRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final List<Integer> widths;
+  private final long maxSourcePixels;
+  private final Executor executor;
+
+  @Autowired
+  public ImageVariantPipeline(BinaryContentStorage binaryContentStorage,
+      @Qualifier(BinaryContentStorage.BACKEND) BinaryContentStorage variantStorage,
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentVariantRepository binaryContentVariantRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${discodeit.image.variant.widths:64,256}") List<Integer> widths,
+      @Value("${discodeit.image.variant.max-source-pixels:40000000}") long maxSourcePixels,
+      @Value("${discodeit.image.variant.threads:2}") int threads,
+      @Value("${discodeit.image.variant.queue-capacity:100}") int queueCapacity) {
+    this(binaryContentStorage, variantStorage, binaryContentRepository, binaryContentVariantRepository,
+        transactionManager, widths, maxSourcePixels,
+        new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("image-variant-")));
+  }
+
+  ImageVariantPipeline(BinaryContentStorage binaryContentStorage,
+      BinaryContentStorage variantStorage,
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentVariantRepository binaryContentVariantRepository,
+      PlatformTransactionManager transactionManager, List<Integer> widths, long maxSourcePixels,
+      Executor executor) {
+    this.binaryContentStorage = binaryContentStorage;
+    this.variantStorage = variantStorage;
+    this.binaryContentRepository = binaryContentRepository;
+    this.binaryContentVariantRepository = binaryContentVariantRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.widths = widths.stream().sorted().toList();
+    this.maxSourcePixels = maxSourcePixels;
+    this.executor = executor;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(BinaryContentCreatedEvent event) {
+    if (!isSupported(event.contentType())) {
+      return;
+    }
+    try {
+      executor.execute(() -> generate(event.binaryContentId(), event.contentType()));
+    } catch (RejectedExecutionException e) {
+      log.warn("축소본 생성 대기열 초과로 건너뜀: binaryContentId={}", event.binaryContentId());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  void generate(UUID binaryContentId, String contentType) {
+    try {
+      BufferedImage source = read(binaryContentId);
+      if (source == null) {
+        return;
+      }
+      boolean jpeg = JPEG_TYPES.contains(contentType);
+      int longEdge = Math.max(source.getWidth(), source.getHeight());
+      for (Integer width : widths) {
+        if (width >= longEdge) {
+          break;
+        }
+        byte[] bytes = encode(resize(source, width, jpeg), jpeg);
+        save(binaryContentId, width, bytes, jpeg ? "image/jpeg" : "image/png");
+      }
+      log.debug("축소본 생성 완료: binaryContentId={}", binaryContentId);
+    } catch (Exception e) {
+      log.warn("축소본 생성 실패: binaryContentId={}, message={}", binaryContentId, e.getMessage());
+    }
+  }
+
+  private boolean isSupported(String contentType) {
+    return contentType != null
+        && ImageIO.getImageReadersByMIMEType(contentType).hasNext()
+        && !contentType.equals("image/gif");
+  }
+
+  /**
+   * 헤더의 크기를 먼저 확인해 지나치게 큰 이미지는 디코딩하지 않는다.
+   */
+  private BufferedImage read(UUID binaryContentId) throws IOException {
+    try (InputStream inputStream = binaryContentStorage.get(binaryContentId);
+        ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+      if (!readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(imageInputStream, true, true);
+        long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+        if (pixels > maxSourcePixels) {
+          log.info("원본이 너무 커서 축소본을 만들지 않음: binaryContentId={}, pixels={}",
+              binaryContentId, pixels);
+          return null;
+        }
+        return reader.read(0);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * 한 번에 크게 줄이면 bilinear 보간의 품질이 떨어지므로 절반씩 단계적으로 줄인다.
+   */
+  private static BufferedImage resize(BufferedImage source, int maxEdge, boolean opaque) {
+    double scale = (double) maxEdge / Math.max(source.getWidth(), source.getHeight());
+    int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+    int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+    int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+    BufferedImage current = source;
+    int width = source.getWidth();
+    int height = source.getHeight();
+    do {
+      width = Math.max(targetWidth, width / 2);
+      height = Math.max(targetHeight, height / 2);
+      BufferedImage next = new BufferedImage(width, height, type);
+      Graphics2D graphics = next.createGraphics();
+      try {
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+            RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(current, 0, 0, width, height, null);
+      } finally {
+        graphics.dispose();
+      }
+      current = next;
+    } while (width != targetWidth || height != targetHeight);
+    return current;
+  }
+
+  private static byte[] encode(BufferedImage image, boolean jpeg) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, jpeg ? "jpg" : "png", outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * 축소본은 변형 ID를 key로 실제 저장소에 바로 저장한다. (파생 데이터이므로 내용 기반 저장을 거치지 않음)
+   * <p>
+   * 행을 먼저 flush해 원본이 그새 삭제되었으면 파일을 쓰기 전에 실패한다. 저장이 끝난 뒤 커밋되므로 조회 가능한 축소본은 항상 본문이
+   * 있고, 이후 원본이 삭제되면 {@link OrphanVariantCollector}가 파일을 지운다.
+   */
+  private void save(UUID binaryContentId, int width, byte[] bytes, String contentType) {
+    transactionTemplate.executeWithoutResult(status -> {
+      BinaryContent binaryContent = binaryContentRepository.getReferenceById(binaryContentId);
+      BinaryContentVariant variant = binaryContentVariantRepository.saveAndFlush(
+          new BinaryContentVariant(binaryContent, width, (long) bytes.length, contentType));
+      variantStorage.put(variant.getId(), bytes);
+    });
+  }
+
+  private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+}
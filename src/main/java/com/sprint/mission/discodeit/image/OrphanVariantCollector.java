@@ -0,0 +1,64 @@
+package com.sprint.mission.discodeit.image;
+
+import com.sprint.mission.discodeit.repository.BinaryContentVariantRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본이 삭제된 축소본 정리
+ * <p>
+ * 원본 BinaryContent가 삭제되면(메시지/프로필 교체 등) 축소본 행은 참조만 끊긴 채 남는다. 저장소의 파일을 먼저 지우고 행을 삭제하므로
+ * 중간에 실패해도 다음 실행에서 다시 시도된다.
+ */
+@Slf4j
+@Component
+public class OrphanVariantCollector {
+
+  private final BinaryContentStorage variantStorage;
+  private final BinaryContentVariantRepository binaryContentVariantRepository;
+  private final int batchSize;
+
+  public OrphanVariantCollector(
+      @Qualifier(BinaryContentStorage.BACKEND) BinaryContentStorage variantStorage,
+      BinaryContentVariantRepository binaryContentVariantRepository,
+      @Value("${discodeit.image.variant.gc.batch-size:500}") int batchSize
+  ) {
+    this.variantStorage = variantStorage;
+    this.binaryContentVariantRepository = binaryContentVariantRepository;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.image.variant.gc.interval:PT1H}",
+      initialDelayString = "${discodeit.image.variant.gc.interval:PT1H}")
+  public void scheduledCollect() {
+    collect();
+  }
+
+  /**
+   * @return 삭제한 축소본 수
+   */
+  public int collect() {
+    int collected = 0;
+    List<UUID> orphanIds;
+    do {
+      orphanIds = binaryContentVariantRepository.findOrphanIds(PageRequest.of(0, batchSize));
+      for (UUID variantId : orphanIds) {
+        variantStorage.delete(variantId);
+        binaryContentVariantRepository.deleteById(variantId);
+        collected++;
+      }
+    } while (orphanIds.size() == batchSize);
+
+    if (collected > 0) {
+      log.info("원본이 삭제된 축소본 정리 완료: count={}", collected);
+    }
+    return collected;
+  }
+}
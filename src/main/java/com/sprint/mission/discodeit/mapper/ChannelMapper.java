@@ -5,11 +5,16 @@ import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
-import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
-import java.time.Instant;
+import com.sprint.mission.discodeit.security.SessionManager;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,21 +22,59 @@ import org.springframework.beans.factory.annotation.Autowired;
 @Mapper(componentModel = "spring", uses = {UserMapper.class})
 public abstract class ChannelMapper {
 
-  @Autowired
-  private MessageRepository messageRepository;
   @Autowired
   private ReadStatusRepository readStatusRepository;
   @Autowired
   private UserMapper userMapper;
+  @Autowired
+  private SessionManager sessionManager;
 
   @Mapping(target = "participants", expression = "java(resolveParticipants(channel))")
-  @Mapping(target = "lastMessageAt", expression = "java(resolveLastMessageAt(channel))")
+  @Mapping(target = "lastMessageAt", source = "lastMessageAt",
+      defaultExpression = "java(java.time.Instant.MIN)")
   abstract public ChannelDto toDto(Channel channel);
 
-  protected Instant resolveLastMessageAt(Channel channel) {
-    return messageRepository.findLastMessageAtByChannelId(
-            channel.getId())
-        .orElse(Instant.MIN);
+  @Mapping(target = "participants", source = "participants")
+  @Mapping(target = "lastMessageAt", source = "channel.lastMessageAt",
+      defaultExpression = "java(java.time.Instant.MIN)")
+  abstract ChannelDto toDto(Channel channel, List<UserDto> participants);
+
+  /**
+   * 채널 목록 변환
+   * <p>
+   * 채널 수와 관계없이 비공개 채널 참여자를 조인 쿼리 1회로 한 번에 조회한 뒤 메모리에서 조립한다. 마지막 메시지 시간은 채널에
+   * 저장된 값을 그대로 사용한다.
+   */
+  public List<ChannelDto> toDtoList(List<Channel> channels) {
+    if (channels.isEmpty()) {
+      return List.of();
+    }
+
+    List<UUID> privateChannelIds = channels.stream()
+        .filter(channel -> channel.getType().equals(ChannelType.PRIVATE))
+        .map(Channel::getId)
+        .toList();
+    Map<UUID, List<User>> participantsByChannelId = new HashMap<>();
+    if (!privateChannelIds.isEmpty()) {
+      readStatusRepository.findAllByChannelIdInWithUser(privateChannelIds)
+          .forEach(readStatus -> participantsByChannelId
+              .computeIfAbsent(readStatus.getChannel().getId(), id -> new ArrayList<>())
+              .add(readStatus.getUser()));
+    }
+
+    Set<UUID> onlineUserIds = sessionManager.getOnlineUserIds(
+        participantsByChannelId.values().stream()
+            .flatMap(List::stream)
+            .map(User::getId)
+            .collect(Collectors.toSet()));
+
+    return channels.stream()
+        .map(channel -> toDto(
+            channel,
+            participantsByChannelId.getOrDefault(channel.getId(), List.of()).stream()
+                .map(user -> userMapper.toDto(user, onlineUserIds.contains(user.getId())))
+                .toList()))
+        .toList();
   }
 
   protected List<UserDto> resolveParticipants(Channel channel) {
@@ -45,4 +88,21 @@ public abstract class ChannelMapper {
     }
     return participants;
   }
+
+  /**
+   * 캐시된 DTO의 참여자 접속 여부를 현재 값으로 바꾼다. (조회 1회)
+   */
+  public ChannelDto withOnline(ChannelDto channelDto) {
+    if (channelDto.participants().isEmpty()) {
+      return channelDto;
+    }
+    Set<UUID> onlineUserIds = sessionManager.getOnlineUserIds(
+        channelDto.participants().stream().map(UserDto::id).toList());
+    List<UserDto> participants = channelDto.participants().stream()
+        .map(participant -> userMapper.withOnline(participant,
+            onlineUserIds.contains(participant.id())))
+        .toList();
+    return new ChannelDto(channelDto.id(), channelDto.type(), channelDto.name(),
+        channelDto.description(), participants, channelDto.lastMessageAt());
+  }
 }
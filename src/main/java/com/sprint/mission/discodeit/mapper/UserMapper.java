@@ -3,6 +3,9 @@ package com.sprint.mission.discodeit.mapper;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.security.SessionManager;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,4 +18,28 @@ public abstract class UserMapper {
 
   @Mapping(target = "online", expression = "java(sessionManager.hasActiveSessions(user.getId()))")
   public abstract UserDto toDto(User user);
+
+  @Mapping(target = "online", source = "online")
+  public abstract UserDto toDto(User user, Boolean online);
+
+  // 목록 변환 시 접속 여부를 한 번에 조회
+  public List<UserDto> toDtoList(List<User> users) {
+    Set<UUID> onlineUserIds = sessionManager.getOnlineUserIds(
+        users.stream().map(User::getId).toList());
+    return users.stream()
+        .map(user -> toDto(user, onlineUserIds.contains(user.getId())))
+        .toList();
+  }
+
+  /**
+   * 캐시된 DTO의 접속 여부를 현재 값으로 바꾼다.
+   */
+  public UserDto withOnline(UserDto userDto) {
+    return withOnline(userDto, sessionManager.hasActiveSessions(userDto.id()));
+  }
+
+  UserDto withOnline(UserDto userDto, boolean online) {
+    return new UserDto(userDto.id(), userDto.username(), userDto.email(), userDto.profile(),
+        online, userDto.role());
+  }
 }
@@ -1,9 +1,17 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BinaryContentRepository extends JpaRepository<BinaryContent, UUID> {
 
+  /**
+   * 저장소 key로 사용할 Blob ID (내용 기반 저장 이전에 만들어진 항목은 empty)
+   */
+  @Query("SELECT c.blob.id FROM BinaryContent c WHERE c.id = :binaryContentId")
+  Optional<UUID> findBlobIdById(@Param("binaryContentId") UUID binaryContentId);
 }
@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BinaryContentVariant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface BinaryContentVariantRepository extends JpaRepository<BinaryContentVariant, UUID> {
+
+  /**
+   * 요청한 크기 이상인 축소본 중 가장 작은 것
+   */
+  Optional<BinaryContentVariant> findFirstByBinaryContentIdAndWidthGreaterThanEqualOrderByWidthAsc(
+      UUID binaryContentId, int width);
+
+  List<BinaryContentVariant> findAllByBinaryContentId(UUID binaryContentId);
+
+  /**
+   * 원본이 삭제되어 참조가 끊긴 축소본
+   */
+  @Query("SELECT v.id FROM BinaryContentVariant v "
+      + "WHERE v.binaryContent IS NULL "
+      + "ORDER BY v.createdAt")
+  List<UUID> findOrphanIds(Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.Blob;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BlobRepository extends JpaRepository<Blob, UUID> {
+
+  /**
+   * createdBefore 이전에 저장되었고 참조하는 BinaryContent, 승격 대기 중인 업로드가 없는 Blob
+   */
+  @Query("SELECT b.id FROM Blob b "
+      + "WHERE b.createdAt < :createdBefore "
+      + "AND NOT EXISTS (SELECT 1 FROM BinaryContent c WHERE c.blob = b) "
+      + "AND NOT EXISTS (SELECT 1 FROM PendingUpload p WHERE p.blob = b) "
+      + "ORDER BY b.createdAt")
+  List<UUID> findUnreferencedIds(@Param("createdBefore") Instant createdBefore,
+      Pageable pageable);
+
+  /**
+   * 조회 이후 다시 참조되었으면 삭제하지 않는다.
+   */
+  @Modifying
+  @Query("DELETE FROM Blob b "
+      + "WHERE b.id = :blobId "
+      + "AND NOT EXISTS (SELECT 1 FROM BinaryContent c WHERE c.blob.id = :blobId) "
+      + "AND NOT EXISTS (SELECT 1 FROM PendingUpload p WHERE p.blob.id = :blobId)")
+  int deleteIfUnreferenced(@Param("blobId") UUID blobId);
+}
@@ -0,0 +1,20 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 채널의 마지막 메시지 시간 갱신 (메시지 생성/삭제 시 조건부 UPDATE)
+ */
+public interface ChannelLastMessageRepository {
+
+  /**
+   * 마지막 메시지 시간을 앞으로만 갱신 (동시에 생성된 메시지 간 순서가 뒤바뀌어도 최신 값 유지)
+   */
+  int advanceLastMessageAt(UUID channelId, Instant lastMessageAt);
+
+  /**
+   * 삭제된 메시지가 채널의 마지막 메시지였던 경우에만 남은 메시지 기준으로 다시 계산
+   */
+  int rewindLastMessageAt(UUID channelId, Instant deletedMessageAt);
+}
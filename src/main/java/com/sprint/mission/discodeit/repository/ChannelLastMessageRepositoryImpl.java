@@ -0,0 +1,76 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPQL bulk UPDATE는 Channel 2차 캐시 region 전체를 비우므로, 메시지가 생성될 때마다 모든 채널이 캐시에서 빠진다.
+ * <p>
+ * 대신 같은 조건부 UPDATE를 JDBC로 실행하고, 갱신 대상 채널 하나만 트랜잭션이 끝날 때까지 캐시에서 잠근다.
+ * 잠긴 동안 다른 트랜잭션은 DB에서 읽고, 잠금이 풀리기 전에 시작된 트랜잭션이 읽은 값은 캐시에 저장되지 않는다.
+ * <p>
+ * channels 테이블의 query cache 무효화는 하지 않으므로 channels를 조회하는 쿼리에는 cacheable 힌트를 쓰지 않는다.
+ */
+class ChannelLastMessageRepositoryImpl implements ChannelLastMessageRepository {
+
+  private static final String ADVANCE_SQL = "UPDATE channels SET last_message_at = ? "
+      + "WHERE id = ? AND (last_message_at IS NULL OR last_message_at < ?)";
+  private static final String REWIND_SQL = "UPDATE channels SET last_message_at = "
+      + "(SELECT MAX(m.created_at) FROM messages m WHERE m.channel_id = ?) "
+      + "WHERE id = ? AND last_message_at <= ?";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Transactional
+  @Override
+  public int advanceLastMessageAt(UUID channelId, Instant lastMessageAt) {
+    return update(channelId, ADVANCE_SQL, lastMessageAt, channelId, lastMessageAt);
+  }
+
+  @Transactional
+  @Override
+  public int rewindLastMessageAt(UUID channelId, Instant deletedMessageAt) {
+    // 삭제된 메시지가 DB에 반영된 뒤에 다시 계산
+    entityManager.flush();
+    return update(channelId, REWIND_SQL, channelId, channelId, deletedMessageAt);
+  }
+
+  private int update(UUID channelId, String sql, Object... parameters) {
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    lockCachedChannel(session, channelId);
+    return session.doReturningWork(connection -> {
+      try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        for (int i = 0; i < parameters.length; i++) {
+          statement.setObject(i + 1, parameters[i] instanceof Instant instant
+              ? instant.atOffset(ZoneOffset.UTC) : parameters[i]);
+        }
+        return statement.executeUpdate();
+      }
+    });
+  }
+
+  private void lockCachedChannel(SessionImplementor session, UUID channelId) {
+    EntityPersister persister = session.getFactory().getMappingMetamodel()
+        .getEntityDescriptor(Channel.class);
+    if (!persister.canWriteToCache()) {
+      return;
+    }
+    EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+    Object key = cacheAccess.generateCacheKey(channelId, persister, session.getFactory(),
+        session.getTenantIdentifier());
+    SoftLock lock = cacheAccess.lockItem(session, key, null);
+    session.getActionQueue().registerProcess((success, completedSession) ->
+        cacheAccess.unlockItem(completedSession, key, lock));
+  }
+}
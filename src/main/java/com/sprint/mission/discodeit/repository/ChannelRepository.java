@@ -6,7 +6,8 @@ import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ChannelRepository extends JpaRepository<Channel, UUID> {
+public interface ChannelRepository extends JpaRepository<Channel, UUID>,
+    ChannelLastMessageRepository {
 
   List<Channel> findAllByTypeOrIdIn(ChannelType type, List<UUID> ids);
 }
@@ -1,31 +1,60 @@
 package com.sprint.mission.discodeit.repository;
 
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.entity.Message;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface MessageRepository extends JpaRepository<Message, UUID> {
 
-  @Query("SELECT m FROM Message m "
-      + "LEFT JOIN FETCH m.author a "
-      + "LEFT JOIN FETCH a.profile "
-      + "WHERE m.channel.id=:channelId AND m.createdAt < :createdAt")
-  Slice<Message> findAllByChannelIdWithAuthor(@Param("channelId") UUID channelId,
-      @Param("createdAt") Instant createdAt,
-      Pageable pageable);
+  String CURSOR_SELECT =
+      "SELECT new com.sprint.mission.discodeit.dto.data.MessageCursor(m.createdAt, m.id) ";
 
+  /**
+   * 채널의 최신 메시지 위치 (createdAt, id) (최신순, 인덱스만으로 조회)
+   */
+  @Query(CURSOR_SELECT + "FROM Message m "
+      + "WHERE m.channel.id = :channelId "
+      + "ORDER BY m.createdAt DESC, m.id DESC")
+  List<MessageCursor> findLatestCursorsByChannelId(@Param("channelId") UUID channelId, Limit limit);
 
-  @Query("SELECT m.createdAt "
-      + "FROM Message m "
+  /**
+   * (createdAt, id) 커서보다 이전 메시지 위치 (최신순)
+   */
+  @Query(CURSOR_SELECT + "FROM Message m "
       + "WHERE m.channel.id = :channelId "
-      + "ORDER BY m.createdAt DESC LIMIT 1")
-  Optional<Instant> findLastMessageAtByChannelId(@Param("channelId") UUID channelId);
+      + "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) "
+      + "ORDER BY m.createdAt DESC, m.id DESC")
+  List<MessageCursor> findOlderCursorsByChannelId(@Param("channelId") UUID channelId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Limit limit);
+
+  /**
+   * (createdAt, id) 커서보다 이후 메시지 위치 (오래된순)
+   */
+  @Query(CURSOR_SELECT + "FROM Message m "
+      + "WHERE m.channel.id = :channelId "
+      + "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) "
+      + "ORDER BY m.createdAt ASC, m.id ASC")
+  List<MessageCursor> findNewerCursorsByChannelId(@Param("channelId") UUID channelId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Limit limit);
+
+  /**
+   * 메시지 페이지 본문 조회 (작성자, 프로필, 첨부파일을 한 번에 로딩, 순서는 보장하지 않음)
+   */
+  @EntityGraph(attributePaths = {"author", "author.profile", "attachments"})
+  @Query("SELECT DISTINCT m FROM Message m WHERE m.id IN :ids")
+  List<Message> findAllWithAuthorAndAttachmentsByIdIn(@Param("ids") Collection<UUID> ids);
 
   void deleteAllByChannelId(UUID channelId);
 }
@@ -0,0 +1,41 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.Blob;
+import com.sprint.mission.discodeit.entity.PendingUpload;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, UUID> {
+
+  @Query("SELECT p.id FROM PendingUpload p WHERE p.createdAt < :createdBefore ORDER BY p.createdAt")
+  List<UUID> findIdsCreatedBefore(@Param("createdBefore") Instant createdBefore, Pageable pageable);
+
+  /**
+   * 내용 기반 저장소가 Blob으로 저장한 업로드 (승격 시 BinaryContent에 연결할 Blob)
+   */
+  @Query("SELECT p FROM PendingUpload p JOIN FETCH p.blob WHERE p.id IN :ids")
+  List<PendingUpload> findAllWithBlobByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * staged upload는 트랜잭션 밖에서 업로드하므로 단독으로도 커밋되도록 한다.
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE PendingUpload p SET p.blob = :blob WHERE p.id = :id")
+  int assignBlob(@Param("id") UUID id, @Param("blob") Blob blob);
+
+  /**
+   * 업로드한 파일을 BinaryContent로 승격 (엔티티를 읽지 않고 한 번에 삭제)
+   */
+  @Modifying
+  @Query("DELETE FROM PendingUpload p WHERE p.id IN :ids")
+  int promoteAll(@Param("ids") Collection<UUID> ids);
+}
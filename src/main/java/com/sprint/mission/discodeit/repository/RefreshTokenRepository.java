@@ -1,16 +1,61 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByToken(String token); // 토큰 문자열로 조회 -> 갱신 시 검증용
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
-    Optional<RefreshToken> findByUserId(UUID userId);
+    /**
+     * 사용 가능한 토큰을 재발급됨으로 표시 (이미 재발급됐거나 만료된 토큰이면 0)
+     * <p>
+     * 동시에 같은 토큰으로 요청하면 행 잠금으로 하나만 1을 받는다.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.rotatedAt = :now "
+            + "WHERE r.tokenHash = :tokenHash AND r.rotatedAt IS NULL AND r.expiresAt > :now")
+    int markRotated(@Param("tokenHash") byte[] tokenHash, @Param("now") Instant now);
 
-    void deleteByUserId(UUID userId);
+    /**
+     * 재발급한 토큰의 family와 사용자를 이어받아 새 토큰 저장 (기존 행을 엔티티로 읽지 않음)
+     */
+    @Modifying
+    @Query("INSERT INTO RefreshToken (id, createdAt, tokenHash, familyId, user, expiresAt) "
+            + "SELECT :id, :now, :newTokenHash, r.familyId, r.user, :expiresAt "
+            + "FROM RefreshToken r WHERE r.tokenHash = :rotatedTokenHash")
+    int insertSuccessor(@Param("id") UUID id, @Param("now") Instant now,
+                        @Param("newTokenHash") byte[] newTokenHash,
+                        @Param("expiresAt") Instant expiresAt,
+                        @Param("rotatedTokenHash") byte[] rotatedTokenHash);
+
+    /**
+     * 이미 재발급된 토큰이 다시 사용된 경우 같은 family의 토큰을 모두 삭제 (token_hash, family_id 인덱스)
+     *
+     * @return 삭제한 토큰 수 (0이면 재사용이 아님: 없는 토큰이거나 만료된 토큰)
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = "
+            + "(SELECT p.familyId FROM RefreshToken p WHERE p.tokenHash = :tokenHash AND p.rotatedAt IS NOT NULL)")
+    int deleteFamilyOfRotated(@Param("tokenHash") byte[] tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 정리 대상: 만료된 토큰, retention이 지난 재발급된 토큰
+     */
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiresAt < :now OR r.rotatedAt < :rotatedBefore")
+    List<UUID> findSweepableIds(@Param("now") Instant now, @Param("rotatedBefore") Instant rotatedBefore,
+                                Pageable pageable);
 }
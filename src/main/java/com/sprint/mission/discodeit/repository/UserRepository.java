@@ -1,20 +1,23 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.User;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+  /**
+   * 로그인마다 호출되므로 query cache 사용 (users 테이블이 변경되면 무효화된다)
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<User> findByUsername(String username);
 
-  boolean existsByEmail(String email);
-
-  boolean existsByUsername(String username);
-
   @Query("SELECT u FROM User u "
       + "LEFT JOIN FETCH u.profile")
   List<User> findAllWithProfile();
@@ -0,0 +1,122 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시 계산을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * <p>
+ * - BCrypt는 CPU만 쓰는 작업이므로, 로그인이 몰려도 동시에 계산하는 수를 threads로 제한한다.
+ * 요청 스레드는 결과를 기다리기만 한다.
+ * <p>
+ * - 대기열(queue-capacity)이 가득 차면 기다리지 않고 {@link PasswordHashingBusyException}을 던진다. (503)
+ * <p>
+ * - 지표: password.hash.duration{operation=encode|matches} (matches 횟수 = 로그인 검증 처리량),
+ * password.hash.queue.size, password.hash.active, password.hash.rejected
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejected;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry, int threads,
+      int queueCapacity) {
+    this(delegate, meterRegistry,
+        new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("password-hash-")));
+  }
+
+  BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+      ThreadPoolExecutor executor) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.encodeTimer = hashTimer(meterRegistry, "encode");
+    this.matchesTimer = hashTimer(meterRegistry, "matches");
+    this.rejected = Counter.builder("password.hash.rejected")
+        .description("대기열 초과로 거절된 해시 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+        .description("해시 계산 대기 중인 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("해시 계산 중인 스레드 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return hash(() -> delegate.encode(rawPassword), encodeTimer);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return hash(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+  }
+
+  /**
+   * 저장된 해시의 cost가 설정보다 낮으면 true (로그인 성공 시 새 cost로 다시 저장됨)
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> T hash(Supplier<T> task, Timer timer) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> timer.record(task));
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("해시 계산 대기열 초과: queueSize={}", executor.getQueue().size());
+      throw PasswordHashingBusyException.queueFull(
+          executor.getQueue().size() + executor.getQueue().remainingCapacity());
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("해시 계산 대기 중 인터럽트", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+    return Timer.builder("password.hash.duration")
+        .description("해시 계산 시간 (대기 시간 제외)")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+}
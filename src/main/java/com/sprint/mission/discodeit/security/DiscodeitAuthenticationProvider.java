@@ -0,0 +1,41 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingBusyException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 폼 로그인 인증
+ * <p>
+ * - 해시 대기열 초과({@link PasswordHashingBusyException})는 인증 예외로 감싸서 {@link LoginFailureHandler}가
+ * 503으로 응답하게 한다. (감싸지 않으면 필터 밖으로 전파되어 500이 된다)
+ * <p>
+ * - UserDetailsService가 {@link UserDetailsPasswordService}도 구현하면, 로그인 성공 시 cost가 낮은 해시를 새 cost로
+ * 다시 저장한다.
+ */
+public class DiscodeitAuthenticationProvider extends DaoAuthenticationProvider {
+
+  public DiscodeitAuthenticationProvider(UserDetailsService userDetailsService,
+      PasswordEncoder passwordEncoder) {
+    super(passwordEncoder);
+    setUserDetailsService(userDetailsService);
+    if (userDetailsService instanceof UserDetailsPasswordService userDetailsPasswordService) {
+      setUserDetailsPasswordService(userDetailsPasswordService);
+    }
+  }
+
+  @Override
+  public Authentication authenticate(Authentication authentication)
+      throws AuthenticationException {
+    try {
+      return super.authenticate(authentication);
+    } catch (PasswordHashingBusyException e) {
+      throw new InternalAuthenticationServiceException(e.getMessage(), e);
+    }
+  }
+}
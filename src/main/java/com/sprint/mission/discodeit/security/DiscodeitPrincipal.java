@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.entity.Role;
+import java.util.UUID;
+
+/**
+ * 인증된 사용자 공통 정보
+ * <p>
+ * 폼 로그인({@link DiscodeitUserDetails})과 토큰 인증({@link JwtPrincipal}) 모두 구현하므로
+ * {@code @PreAuthorize}에서는 {@code principal.userId}, {@code principal.role}만 사용한다.
+ */
+public interface DiscodeitPrincipal {
+
+  UUID getUserId();
+
+  String getUsername();
+
+  Role getRole();
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.security;
 
 import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
 
 import java.util.Collection;
 import java.util.List;
@@ -16,7 +17,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 @EqualsAndHashCode(of = "userDto")
 @Getter
 @RequiredArgsConstructor
-public class DiscodeitUserDetails implements UserDetails {
+public class DiscodeitUserDetails implements UserDetails, DiscodeitPrincipal {
 
     private final UserDto userDto;
     private final String password;
@@ -36,7 +37,13 @@ public class DiscodeitUserDetails implements UserDetails {
         return userDto.username();
     }
 
+    @Override
     public UUID getUserId() {
         return userDto.id();
     }
+
+    @Override
+    public Role getRole() {
+        return userDto.role();
+    }
 }
@@ -6,15 +6,19 @@ import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class DiscodeitUserDetailsService implements UserDetailsService {
+public class DiscodeitUserDetailsService implements UserDetailsService,
+    UserDetailsPasswordService {
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
@@ -31,4 +35,22 @@ public class DiscodeitUserDetailsService implements UserDetailsService {
         user.getPassword()
     );
   }
+
+  /**
+   * BCrypt cost가 올라간 뒤 로그인에 성공하면, 새 cost로 계산한 해시를 저장한다.
+   */
+  @Transactional
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    String username = userDetails.getUsername();
+    User user = userRepository.findByUsername(username)
+        .orElseThrow(() -> UserNotFoundException.withUsername(username));
+    user.update(null, null, newPassword, null);
+    log.info("비밀번호 해시 cost 갱신: id={}", user.getId());
+
+    return new DiscodeitUserDetails(
+        userMapper.toDto(user),
+        newPassword
+    );
+  }
 }
@@ -0,0 +1,27 @@
+package com.sprint.mission.discodeit.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.session.SessionRegistryImpl;
+
+/**
+ * 세션 등록/해제 시 {@link PresenceRegistry}의 사용자별 세션 색인도 함께 갱신하는 SessionRegistry
+ */
+@RequiredArgsConstructor
+public class IndexedSessionRegistry extends SessionRegistryImpl {
+
+  private final PresenceRegistry presenceRegistry;
+
+  @Override
+  public void registerNewSession(String sessionId, Object principal) {
+    super.registerNewSession(sessionId, principal);
+    if (principal instanceof DiscodeitPrincipal discodeitPrincipal) {
+      presenceRegistry.registerSession(discodeitPrincipal.getUserId(), sessionId);
+    }
+  }
+
+  @Override
+  public void removeSessionInformation(String sessionId) {
+    super.removeSessionInformation(sessionId);
+    presenceRegistry.removeSession(sessionId);
+  }
+}
@@ -0,0 +1,42 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.entity.Role;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Access Token claims(id, username, role)만으로 만든 principal
+ * <p>
+ * User 엔티티, UserDto 변환, 세션 조회 없이 권한 검사에 필요한 값만 보관한다.
+ */
+@EqualsAndHashCode(of = "userId")
+@Getter
+public class JwtPrincipal implements DiscodeitPrincipal, AuthenticatedPrincipal {
+
+  private final UUID userId;
+  private final String username;
+  private final Role role;
+  private final List<GrantedAuthority> authorities;
+
+  public JwtPrincipal(UUID userId, String username, Role role) {
+    this.userId = userId;
+    this.username = username;
+    this.role = role;
+    this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+  }
+
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return authorities;
+  }
+
+  @Override
+  public String getName() {
+    return username;
+  }
+}
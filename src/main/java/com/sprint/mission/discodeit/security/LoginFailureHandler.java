@@ -2,12 +2,15 @@ package com.sprint.mission.discodeit.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.exception.ErrorResponse;
+import com.sprint.mission.discodeit.exception.GlobalExceptionHandler;
+import com.sprint.mission.discodeit.exception.user.PasswordHashingBusyException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
@@ -23,11 +26,21 @@ public class LoginFailureHandler implements AuthenticationFailureHandler {
   @Override
   public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
       AuthenticationException exception) throws IOException, ServletException {
-    log.error("Authentication failed: {}", exception.getMessage(), exception);
-    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     response.setContentType(MediaType.APPLICATION_JSON_VALUE);
     response.setCharacterEncoding("UTF-8");
 
+    if (exception.getCause() instanceof PasswordHashingBusyException busy) {
+      log.warn("Authentication rejected: {}", busy.getMessage());
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.setHeader(HttpHeaders.RETRY_AFTER, GlobalExceptionHandler.RETRY_AFTER_SECONDS);
+      ErrorResponse errorResponse = new ErrorResponse(busy,
+          HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+      return;
+    }
+
+    log.error("Authentication failed: {}", exception.getMessage(), exception);
+    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     ErrorResponse errorResponse = new ErrorResponse(exception, HttpServletResponse.SC_UNAUTHORIZED);
     response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
   }
@@ -0,0 +1,29 @@
+package com.sprint.mission.discodeit.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+/**
+ * 로그아웃 시 접속 상태를 바로 오프라인으로 변경
+ * <p>
+ * 토큰 인증 사용자는 마지막 활동 시각만 남으므로, 지우지 않으면 presence TTL 동안 온라인으로 보인다.
+ */
+public class PresenceLogoutHandler implements LogoutHandler {
+
+  private final PresenceRegistry presenceRegistry;
+
+  public PresenceLogoutHandler(PresenceRegistry presenceRegistry) {
+    this.presenceRegistry = presenceRegistry;
+  }
+
+  @Override
+  public void logout(HttpServletRequest request, HttpServletResponse response,
+      Authentication authentication) {
+    if (authentication != null
+        && authentication.getPrincipal() instanceof DiscodeitPrincipal principal) {
+      presenceRegistry.markOffline(principal.getUserId());
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.sprint.mission.discodeit.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 ID로 색인된 접속 상태 저장소
+ * <p>
+ * - 세션 이벤트: 사용자별 세션 ID 집합 (세션 생성/만료 시 갱신)
+ * <p>
+ * - 토큰 이벤트: 사용자별 마지막 활동 시각 (로그인, Access Token 인증 요청 시 갱신)
+ * <p>
+ * 전체 principal을 순회하지 않고 사용자 ID 하나당 O(1)로 접속 여부를 판단한다.
+ */
+@Component
+public class PresenceRegistry {
+
+  // 같은 사용자의 연속 요청마다 map에 쓰지 않도록 최소 갱신 간격을 둔다
+  private static final long TOUCH_RESOLUTION_MILLIS = 1_000;
+
+  private final ConcurrentMap<UUID, Set<String>> sessionIdsByUserId = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, UUID> userIdBySessionId = new ConcurrentHashMap<>();
+  private final ConcurrentMap<UUID, Long> lastSeenByUserId = new ConcurrentHashMap<>();
+
+  private final long ttlMillis;
+  private final Clock clock;
+
+  @Autowired
+  public PresenceRegistry(@Value("${discodeit.presence.ttl-seconds:300}") long ttlSeconds) {
+    this(Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+  }
+
+  PresenceRegistry(Duration ttl, Clock clock) {
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+  }
+
+  public void registerSession(UUID userId, String sessionId) {
+    userIdBySessionId.put(sessionId, userId);
+    sessionIdsByUserId.compute(userId, (key, sessionIds) -> {
+      Set<String> ids = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+      ids.add(sessionId);
+      return ids;
+    });
+  }
+
+  public void removeSession(String sessionId) {
+    UUID userId = userIdBySessionId.remove(sessionId);
+    if (userId == null) {
+      return;
+    }
+    sessionIdsByUserId.computeIfPresent(userId, (key, sessionIds) -> {
+      sessionIds.remove(sessionId);
+      return sessionIds.isEmpty() ? null : sessionIds;
+    });
+  }
+
+  public Set<String> getSessionIds(UUID userId) {
+    Set<String> sessionIds = sessionIdsByUserId.get(userId);
+    return sessionIds != null ? Set.copyOf(sessionIds) : Set.of();
+  }
+
+  public void touch(UUID userId) {
+    long now = clock.millis();
+    Long lastSeen = lastSeenByUserId.get(userId);
+    if (lastSeen == null || now - lastSeen >= TOUCH_RESOLUTION_MILLIS) {
+      lastSeenByUserId.put(userId, now);
+    }
+  }
+
+  public void markOffline(UUID userId) {
+    lastSeenByUserId.remove(userId);
+  }
+
+  public boolean isOnline(UUID userId) {
+    if (sessionIdsByUserId.containsKey(userId)) {
+      return true;
+    }
+
+    Long lastSeen = lastSeenByUserId.get(userId);
+    if (lastSeen == null) {
+      return false;
+    }
+    if (clock.millis() - lastSeen < ttlMillis) {
+      return true;
+    }
+    // 만료된 활동 기록은 조회 시점에 정리
+    lastSeenByUserId.remove(userId, lastSeen);
+    return false;
+  }
+
+  public Set<UUID> onlineSet(Collection<UUID> userIds) {
+    Set<UUID> online = new HashSet<>();
+    for (UUID userId : userIds) {
+      if (isOnline(userId)) {
+        online.add(userId);
+      }
+    }
+    return online;
+  }
+}
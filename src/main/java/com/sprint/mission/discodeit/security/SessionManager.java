@@ -1,6 +1,9 @@
 package com.sprint.mission.discodeit.security;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,26 +17,34 @@ import org.springframework.stereotype.Component;
 public class SessionManager {
 
   private final SessionRegistry sessionRegistry;
+  private final PresenceRegistry presenceRegistry;
 
   public List<SessionInformation> getActiveSessionsByUserId(UUID userId) {
-    return sessionRegistry.getAllPrincipals().stream()
-        .filter(principal -> principal instanceof DiscodeitUserDetails)
-        .map(DiscodeitUserDetails.class::cast)
-        .filter(details -> details.getUserDto().id().equals(userId))
-        .flatMap(details -> sessionRegistry.getAllSessions(details, false).stream())
+    return presenceRegistry.getSessionIds(userId).stream()
+        .map(sessionRegistry::getSessionInformation)
+        .filter(Objects::nonNull)
+        .filter(sessionInformation -> !sessionInformation.isExpired())
         .toList();
   }
 
   public void invalidateSessionsByUserId(UUID userId) {
     List<SessionInformation> activeSessionInfos = getActiveSessionsByUserId(userId);
+    presenceRegistry.markOffline(userId);
 
     if (!activeSessionInfos.isEmpty()) {
-      activeSessionInfos.forEach(SessionInformation::expireNow);
+      activeSessionInfos.forEach(sessionInformation -> {
+        sessionInformation.expireNow();
+        presenceRegistry.removeSession(sessionInformation.getSessionId());
+      });
       log.debug("{}개의 세션이 무효화되었습니다.", activeSessionInfos.size());
     }
   }
 
   public boolean hasActiveSessions(UUID userId) {
-    return !getActiveSessionsByUserId(userId).isEmpty();
+    return presenceRegistry.isOnline(userId);
+  }
+
+  public Set<UUID> getOnlineUserIds(Collection<UUID> userIds) {
+    return presenceRegistry.onlineSet(userIds);
   }
 }
@@ -11,6 +11,13 @@ public interface BinaryContentService {
 
   BinaryContentDto find(UUID binaryContentId);
 
+  /**
+   * 긴 변이 size 이상인 축소본 중 가장 작은 것을 반환한다. 없으면(원본이 더 작거나 아직 생성 전) 원본을 반환한다.
+   * <p>
+   * 반환된 DTO의 id는 저장소 key이며, fileName은 원본과 같다.
+   */
+  BinaryContentDto findForDownload(UUID binaryContentId, int size);
+
   List<BinaryContentDto> findAllByIdIn(List<UUID> binaryContentIds);
 
   void delete(UUID binaryContentId);
@@ -4,6 +4,7 @@ import com.sprint.mission.discodeit.dto.data.ChannelDto;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +18,8 @@ public interface ChannelService {
 
   List<ChannelDto> findAllByUserId(UUID userId);
 
+  List<UUID> findAccessibleChannelIds(UUID userId, Collection<UUID> channelIds);
+
   ChannelDto update(UUID channelId, PublicChannelUpdateRequest request);
 
   void delete(UUID channelId);
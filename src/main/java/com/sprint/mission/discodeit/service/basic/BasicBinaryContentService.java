@@ -3,15 +3,19 @@ package com.sprint.mission.discodeit.service.basic;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
 import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentVariantRepository;
 import com.sprint.mission.discodeit.service.BinaryContentService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.staging.UploadPromoter;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,31 +25,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class BasicBinaryContentService implements BinaryContentService {
 
   private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentVariantRepository binaryContentVariantRepository;
   private final BinaryContentMapper binaryContentMapper;
   private final BinaryContentStorage binaryContentStorage;
+  private final UploadPromoter uploadPromoter;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
   public BinaryContentDto create(BinaryContentCreateRequest request) {
     log.debug("바이너리 컨텐츠 생성 시작: fileName={}, size={}, contentType={}", 
-        request.fileName(), request.bytes().length, request.contentType());
+        request.fileName(), request.size(), request.contentType());
 
     String fileName = request.fileName();
-    byte[] bytes = request.bytes();
+    long size = request.size();
     String contentType = request.contentType();
-    BinaryContent binaryContent = new BinaryContent(
-        fileName,
-        (long) bytes.length,
-        contentType
-    );
+    BinaryContent binaryContent = request.isStaged()
+        ? new BinaryContent(request.stagedId(), fileName, size, contentType)
+        : new BinaryContent(fileName, size, contentType);
     binaryContentRepository.save(binaryContent);
-    binaryContentStorage.put(binaryContent.getId(), bytes);
+    if (request.isStaged()) {
+      uploadPromoter.promote(binaryContent);
+    } else {
+      binaryContentStorage.put(binaryContent.getId(), request.content(), size);
+    }
+    eventPublisher.publishEvent(
+        new BinaryContentCreatedEvent(binaryContent.getId(), contentType));
 
     log.info("바이너리 컨텐츠 생성 완료: id={}, fileName={}, size={}", 
-        binaryContent.getId(), fileName, bytes.length);
+        binaryContent.getId(), fileName, size);
     return binaryContentMapper.toDto(binaryContent);
   }
 
+  @Transactional(readOnly = true)
   @Override
   public BinaryContentDto find(UUID binaryContentId) {
     log.debug("바이너리 컨텐츠 조회 시작: id={}", binaryContentId);
@@ -57,6 +69,18 @@ public class BasicBinaryContentService implements BinaryContentService {
     return dto;
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public BinaryContentDto findForDownload(UUID binaryContentId, int size) {
+    BinaryContentDto original = find(binaryContentId);
+    return binaryContentVariantRepository
+        .findFirstByBinaryContentIdAndWidthGreaterThanEqualOrderByWidthAsc(binaryContentId, size)
+        .map(variant -> new BinaryContentDto(variant.getId(), original.fileName(),
+            variant.getSize(), variant.getContentType()))
+        .orElse(original);
+  }
+
+  @Transactional(readOnly = true)
   @Override
   public List<BinaryContentDto> findAllByIdIn(List<UUID> binaryContentIds) {
     log.debug("바이너리 컨텐츠 목록 조회 시작: ids={}", binaryContentIds);
@@ -7,6 +7,7 @@ import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.event.ChannelChangedEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.PrivateChannelUpdateException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
@@ -15,9 +16,11 @@ import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ChannelService;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +37,7 @@ public class BasicChannelService implements ChannelService {
   private final MessageRepository messageRepository;
   private final UserRepository userRepository;
   private final ChannelMapper channelMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @PreAuthorize("hasRole('CHANNEL_MANAGER')")
   @Transactional
@@ -81,9 +85,27 @@ public class BasicChannelService implements ChannelService {
         .map(Channel::getId)
         .toList();
 
+    return channelMapper.toDtoList(
+        channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC, mySubscribedChannelIds));
+  }
+
+  /**
+   * 사용자가 볼 수 있는 채널(공개 채널 + 참여 중인 비공개 채널) 중 요청한 채널의 ID 목록
+   * <p>
+   * channelIds가 비어 있으면 볼 수 있는 채널 전체를 반환한다.
+   */
+  @Transactional(readOnly = true)
+  @Override
+  public List<UUID> findAccessibleChannelIds(UUID userId, Collection<UUID> channelIds) {
+    List<UUID> mySubscribedChannelIds = readStatusRepository.findAllByUserId(userId).stream()
+        .map(ReadStatus::getChannel)
+        .map(Channel::getId)
+        .toList();
+
     return channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC, mySubscribedChannelIds)
         .stream()
-        .map(channelMapper::toDto)
+        .map(Channel::getId)
+        .filter(channelId -> channelIds.isEmpty() || channelIds.contains(channelId))
         .toList();
   }
 
@@ -100,6 +122,7 @@ public class BasicChannelService implements ChannelService {
       throw PrivateChannelUpdateException.forChannel(channelId);
     }
     channel.update(newName, newDescription);
+    eventPublisher.publishEvent(new ChannelChangedEvent(channelId));
     log.info("채널 수정 완료: id={}, name={}", channelId, channel.getName());
     return channelMapper.toDto(channel);
   }
@@ -117,6 +140,7 @@ public class BasicChannelService implements ChannelService {
     readStatusRepository.deleteAllByChannelId(channelId);
 
     channelRepository.deleteById(channelId);
+    eventPublisher.publishEvent(new ChannelChangedEvent(channelId));
     log.info("채널 삭제 완료: id={}", channelId);
   }
 }
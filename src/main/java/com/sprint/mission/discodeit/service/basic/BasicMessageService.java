@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
@@ -9,6 +10,8 @@ import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.event.MessageEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
@@ -19,14 +22,24 @@ import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.MessageService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
-import java.time.Instant;
+import com.sprint.mission.discodeit.storage.staging.UploadPromoter;
+import com.sprint.mission.discodeit.storage.staging.UploadStager;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,9 +54,11 @@ public class BasicMessageService implements MessageService {
   private final ChannelRepository channelRepository;
   private final UserRepository userRepository;
   private final MessageMapper messageMapper;
-  private final BinaryContentStorage binaryContentStorage;
+  private final UploadStager uploadStager;
+  private final UploadPromoter uploadPromoter;
   private final BinaryContentRepository binaryContentRepository;
   private final PageResponseMapper pageResponseMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -59,18 +74,33 @@ public class BasicMessageService implements MessageService {
         .orElseThrow(() -> UserNotFoundException.withId(authorId));
 
     List<BinaryContent> attachments = binaryContentCreateRequests.stream()
-        .map(attachmentRequest -> {
-          String fileName = attachmentRequest.fileName();
-          String contentType = attachmentRequest.contentType();
-          byte[] bytes = attachmentRequest.bytes();
-
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
-          binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
-          return binaryContent;
-        })
+        .map(attachmentRequest -> attachmentRequest.isStaged()
+            ? new BinaryContent(attachmentRequest.stagedId(), attachmentRequest.fileName(),
+                attachmentRequest.size(), attachmentRequest.contentType())
+            : new BinaryContent(attachmentRequest.fileName(), attachmentRequest.size(),
+                attachmentRequest.contentType()))
         .toList();
+    // 메타데이터는 한 번에 저장하고, 미리 업로드된 파일은 한 번에 승격 (Blob 조회 + pending 항목 삭제)
+    binaryContentRepository.saveAll(attachments);
+    List<BinaryContent> stagedAttachments = new ArrayList<>();
+    List<UUID> unstagedIds = new ArrayList<>();
+    List<BinaryContentCreateRequest> unstagedRequests = new ArrayList<>();
+    for (int i = 0; i < attachments.size(); i++) {
+      BinaryContentCreateRequest attachmentRequest = binaryContentCreateRequests.get(i);
+      if (attachmentRequest.isStaged()) {
+        stagedAttachments.add(attachments.get(i));
+      } else {
+        unstagedIds.add(attachments.get(i).getId());
+        unstagedRequests.add(attachmentRequest);
+      }
+    }
+    uploadPromoter.promoteAll(stagedAttachments);
+    // 스테이징을 끈 경우에만 트랜잭션 안에서 업로드 (스테이징과 같은 스레드 풀에서 동시에)
+    uploadStager.uploadAll(unstagedIds, unstagedRequests);
+    for (BinaryContent binaryContent : attachments) {
+      eventPublisher.publishEvent(
+          new BinaryContentCreatedEvent(binaryContent.getId(), binaryContent.getContentType()));
+    }
 
     String content = messageCreateRequest.content();
     Message message = new Message(
@@ -81,8 +111,11 @@ public class BasicMessageService implements MessageService {
     );
 
     messageRepository.save(message);
+    channelRepository.advanceLastMessageAt(channelId, message.getCreatedAt());
     log.info("메시지 생성 완료: id={}, channelId={}", message.getId(), channelId);
-    return messageMapper.toDto(message);
+    MessageDto messageDto = messageMapper.toDto(message);
+    eventPublisher.publishEvent(MessageEvent.created(messageDto));
+    return messageDto;
   }
 
   @Transactional(readOnly = true)
@@ -93,25 +126,62 @@ public class BasicMessageService implements MessageService {
         .orElseThrow(() -> MessageNotFoundException.withId(messageId));
   }
 
+  /**
+   * (createdAt, id) keyset 페이지 조회
+   * <p>
+   * 커서가 없으면 최신 메시지부터, DESC는 커서보다 이전, ASC는 커서보다 이후 메시지를 조회한다. 응답은 방향과 관계없이 최신순으로
+   * 정렬하며, nextCursor는 같은 방향으로 이어서 조회할 위치를 가리킨다.
+   * <p>
+   * 페이지 크기와 첨부파일 수에 관계없이 쿼리 2회로 조회한다. (인덱스만으로 ID 목록 조회 → 작성자/프로필/첨부파일 일괄 로딩)
+   */
   @Transactional(readOnly = true)
   @Override
-  public PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createAt,
-      Pageable pageable) {
-    Slice<MessageDto> slice = messageRepository.findAllByChannelIdWithAuthor(channelId,
-            Optional.ofNullable(createAt).orElse(Instant.now()),
-            pageable)
-        .map(messageMapper::toDto);
-
-    Instant nextCursor = null;
-    if (!slice.getContent().isEmpty()) {
-      nextCursor = slice.getContent().get(slice.getContent().size() - 1)
-          .createdAt();
+  public PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor,
+      Direction direction, Pageable pageable) {
+    int size = pageable.getPageSize();
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    Limit limit = Limit.of(size + 1);
+    boolean newer = cursor != null && direction.isAscending();
+
+    List<MessageCursor> positions;
+    if (cursor == null) {
+      positions = messageRepository.findLatestCursorsByChannelId(channelId, limit);
+    } else {
+      MessageCursor position = MessageCursor.decode(cursor);
+      positions = newer
+          ? messageRepository.findNewerCursorsByChannelId(channelId, position.createdAt(),
+          position.id(), limit)
+          : messageRepository.findOlderCursorsByChannelId(channelId, position.createdAt(),
+              position.id(), limit);
+    }
+
+    boolean hasNext = positions.size() > size;
+    List<MessageCursor> page = positions.subList(0, Math.min(size, positions.size()));
+    List<MessageDto> content = new ArrayList<>(page.size());
+    if (!page.isEmpty()) {
+      List<UUID> pageIds = page.stream().map(MessageCursor::id).toList();
+      Map<UUID, Message> messagesById = messageRepository
+          .findAllWithAuthorAndAttachmentsByIdIn(pageIds).stream()
+          .collect(Collectors.toMap(Message::getId, Function.identity()));
+      // 두 쿼리 사이에 삭제된 메시지는 응답에서 제외
+      pageIds.stream()
+          .map(messagesById::get)
+          .filter(Objects::nonNull)
+          .map(messageMapper::toDto)
+          .forEach(content::add);
+    }
+
+    // 커서는 첫 번째 쿼리의 위치로 만든다 (마지막 메시지가 삭제되어도 같은 위치부터 이어서 조회)
+    String nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).encode();
+    if (newer) {
+      Collections.reverse(content);
     }
 
+    Slice<MessageDto> slice = new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     return pageResponseMapper.fromSlice(slice, nextCursor);
   }
 
-  @PreAuthorize("principal.userDto.id == @basicMessageService.find(#messageId).author.id")
+  @PreAuthorize("principal.userId == @basicMessageService.find(#messageId).author.id")
   @Transactional
   @Override
   public MessageDto update(UUID messageId, MessageUpdateRequest request) {
@@ -121,18 +191,23 @@ public class BasicMessageService implements MessageService {
 
     message.update(request.newContent());
     log.info("메시지 수정 완료: id={}, channelId={}", messageId, message.getChannel().getId());
-    return messageMapper.toDto(message);
+    MessageDto messageDto = messageMapper.toDto(message);
+    eventPublisher.publishEvent(MessageEvent.updated(messageDto));
+    return messageDto;
   }
 
-  @PreAuthorize("principal.userDto.id == @basicMessageService.find(#messageId).author.id")
+  @PreAuthorize("principal.userId == @basicMessageService.find(#messageId).author.id")
   @Transactional
   @Override
   public void delete(UUID messageId) {
     log.debug("메시지 삭제 시작: id={}", messageId);
-    if (!messageRepository.existsById(messageId)) {
-      throw MessageNotFoundException.withId(messageId);
-    }
-    messageRepository.deleteById(messageId);
+    Message message = messageRepository.findById(messageId)
+        .orElseThrow(() -> MessageNotFoundException.withId(messageId));
+
+    messageRepository.delete(message);
+    UUID channelId = message.getChannel().getId();
+    channelRepository.rewindLastMessageAt(channelId, message.getCreatedAt());
+    eventPublisher.publishEvent(MessageEvent.deleted(channelId, messageId));
     log.info("메시지 삭제 완료: id={}", messageId);
   }
 }
@@ -6,6 +6,8 @@ import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
 import com.sprint.mission.discodeit.exception.user.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
@@ -13,11 +15,16 @@ import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.staging.UploadPromoter;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,8 +39,17 @@ public class BasicUserService implements UserService {
   private final UserMapper userMapper;
   private final BinaryContentRepository binaryContentRepository;
   private final BinaryContentStorage binaryContentStorage;
+  private final UploadPromoter uploadPromoter;
+  private final ApplicationEventPublisher eventPublisher;
   private final PasswordEncoder passwordEncoder;
 
+  /**
+   * 인코딩한 비밀번호로 사용자를 한 번에 insert하고(중복이면 unique 제약으로 실패), 프로필은 insert가 성공한 뒤에 저장한다. 중복 가입
+   * 요청의 해싱 부하는 제한된 인코더가 거절로 막는다.
+   * <p>
+   * 프로필이 있으면 사용자 행의 profile_id는 커밋 시 UPDATE로 채워진다. staged upload를 쓰면 프로필 파일은 서비스 호출 전에 이미
+   * 올라가 있으므로, 중복이면 승격되지 않은 채로 남고 reconciler가 정리한다.
+   */
   @Transactional
   @Override
   public UserDto create(UserCreateRequest userCreateRequest,
@@ -43,31 +59,16 @@ public class BasicUserService implements UserService {
     String username = userCreateRequest.username();
     String email = userCreateRequest.email();
 
-    if (userRepository.existsByEmail(email)) {
-      throw UserAlreadyExistsException.withEmail(email);
-    }
-    if (userRepository.existsByUsername(username)) {
-      throw UserAlreadyExistsException.withUsername(username);
-    }
-
-    BinaryContent nullableProfile = optionalProfileCreateRequest
-        .map(profileRequest -> {
-          String fileName = profileRequest.fileName();
-          String contentType = profileRequest.contentType();
-          byte[] bytes = profileRequest.bytes();
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
-          binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
-          return binaryContent;
-        })
-        .orElse(null);
     String password = userCreateRequest.password();
     String encodedPassword = passwordEncoder.encode(password);
 
-    User user = new User(username, email, encodedPassword, nullableProfile);
+    User user = new User(username, email, encodedPassword, null);
+    saveUnique(user);
+
+    optionalProfileCreateRequest
+        .map(this::createProfile)
+        .ifPresent(profile -> user.update(null, null, null, profile));
 
-    userRepository.save(user);
     log.info("사용자 생성 완료: id={}, username={}", user.getId(), username);
     return userMapper.toDto(user);
   }
@@ -87,15 +88,12 @@ public class BasicUserService implements UserService {
   @Override
   public List<UserDto> findAll() {
     log.debug("모든 사용자 조회 시작");
-    List<UserDto> userDtos = userRepository.findAllWithProfile()
-        .stream()
-        .map(userMapper::toDto)
-        .toList();
+    List<UserDto> userDtos = userMapper.toDtoList(userRepository.findAllWithProfile());
     log.info("모든 사용자 조회 완료: 총 {}명", userDtos.size());
     return userDtos;
   }
 
-  @PreAuthorize("principal.userDto.id == #userId")
+  @PreAuthorize("principal.userId == #userId")
   @Transactional
   @Override
   public UserDto update(UUID userId, UserUpdateRequest userUpdateRequest,
@@ -111,38 +109,24 @@ public class BasicUserService implements UserService {
     String newUsername = userUpdateRequest.newUsername();
     String newEmail = userUpdateRequest.newEmail();
 
-    if (userRepository.existsByEmail(newEmail)) {
-      throw UserAlreadyExistsException.withEmail(newEmail);
-    }
-
-    if (userRepository.existsByUsername(newUsername)) {
-      throw UserAlreadyExistsException.withUsername(newUsername);
-    }
-
-    BinaryContent nullableProfile = optionalProfileCreateRequest
-        .map(profileRequest -> {
-
-          String fileName = profileRequest.fileName();
-          String contentType = profileRequest.contentType();
-          byte[] bytes = profileRequest.bytes();
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
-          binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
-          return binaryContent;
-        })
-        .orElse(null);
-
     String newPassword = userUpdateRequest.newPassword();
     String encodedPassword = Optional.ofNullable(newPassword).map(passwordEncoder::encode)
-        .orElse(user.getPassword());
-    user.update(newUsername, newEmail, encodedPassword, nullableProfile);
+        .orElse(null);
+
+    // 프로필은 바뀐 사용자명/이메일이 중복 검사를 통과한 뒤에 저장한다.
+    user.update(newUsername, newEmail, encodedPassword, null);
+    saveUnique(user);
+
+    optionalProfileCreateRequest
+        .map(this::createProfile)
+        .ifPresent(profile -> user.update(null, null, null, profile));
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
 
     log.info("사용자 수정 완료: id={}", userId);
     return userMapper.toDto(user);
   }
 
-  @PreAuthorize("principal.userDto.id == #userId")
+  @PreAuthorize("principal.userId == #userId")
   @Transactional
   @Override
   public void delete(UUID userId) {
@@ -153,6 +137,47 @@ public class BasicUserService implements UserService {
     }
 
     userRepository.deleteById(userId);
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
     log.info("사용자 삭제 완료: id={}", userId);
   }
+
+  private BinaryContent createProfile(BinaryContentCreateRequest profileRequest) {
+    String fileName = profileRequest.fileName();
+    String contentType = profileRequest.contentType();
+    long size = profileRequest.size();
+    BinaryContent binaryContent = profileRequest.isStaged()
+        ? new BinaryContent(profileRequest.stagedId(), fileName, size, contentType)
+        : new BinaryContent(fileName, size, contentType);
+    binaryContentRepository.save(binaryContent);
+    if (profileRequest.isStaged()) {
+      uploadPromoter.promote(binaryContent);
+    } else {
+      binaryContentStorage.put(binaryContent.getId(), profileRequest.content(), size);
+    }
+    eventPublisher.publishEvent(
+        new BinaryContentCreatedEvent(binaryContent.getId(), contentType));
+    return binaryContent;
+  }
+
+  /**
+   * 이메일/사용자명 중복은 미리 조회하지 않고 users 테이블의 unique 제약으로 검사한다.
+   * <p>
+   * 바로 flush해서 위반을 이 메서드에서 감지하고, 위반한 제약 이름으로 어느 값이 중복인지 구분한다.
+   */
+  private void saveUnique(User user) {
+    try {
+      userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      String constraintName = e.getCause() instanceof ConstraintViolationException violation
+          && violation.getConstraintName() != null
+          ? violation.getConstraintName().toLowerCase(Locale.ROOT) : "";
+      if (constraintName.contains(User.EMAIL_UNIQUE_CONSTRAINT)) {
+        throw UserAlreadyExistsException.withEmail(user.getEmail());
+      }
+      if (constraintName.contains(User.USERNAME_UNIQUE_CONSTRAINT)) {
+        throw UserAlreadyExistsException.withUsername(user.getUsername());
+      }
+      throw e;
+    }
+  }
 }
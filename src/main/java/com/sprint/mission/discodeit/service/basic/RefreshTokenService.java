@@ -1,70 +1,128 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
 import com.sprint.mission.discodeit.entity.RefreshToken;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.base.UuidStrategy;
+import com.sprint.mission.discodeit.exception.user.InvalidRefreshTokenException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * Refresh Token 발급/재발급/폐기
+ * <p>
+ * - DB에는 토큰의 SHA-256 digest만 저장하고, 조회는 token_hash unique 인덱스로 한다.
+ * <p>
+ * - 재발급은 서명/만료를 먼저 검증한 뒤 UPDATE(기존 토큰 표시) + INSERT ... SELECT(family 이어받기) 두 문장으로 끝난다.
+ * <p>
+ * - 이미 재발급된 토큰이 다시 들어오면 탈취로 보고 같은 family를 한 번의 DELETE로 폐기한다. (정상 사용자도 다시 로그인)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final UuidStrategy idStrategy;
 
-    public RefreshToken saveRefreshToken(UUID userId) {
-        String refreshTokenValue = jwtTokenProvider.generateRefreshToken(userId.toString());
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtTokenProvider jwtTokenProvider,
+            UserRepository userRepository,
+            UuidStrategy idStrategy
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.idStrategy = idStrategy;
+    }
+
+    /**
+     * 로그인 시 새 family로 발급
+     *
+     * @return 클라이언트에 전달할 원본 토큰 (DB에는 digest만 저장)
+     */
+    @Transactional
+    public String issue(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.withId(userId));
+        String token = jwtTokenProvider.generateRefreshToken(userId.toString());
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(refreshTokenValue) // TODO: 리프래시 토큰 암호화 필요
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .familyId(idStrategy.generate())
                 .user(user)
-                .expiredAt(Instant.now().plusMillis(jwtTokenProvider.getRefreshTokenExpirationMinutes() * 60 * 1000))
-                .rotated(false)
-                .build();
-
-        log.info("# Refresh token 저장 완료, refresh token: {}", refreshToken);
-        return refreshTokenRepository.save(refreshToken);
+                .expiresAt(expiresAt(Instant.now()))
+                .build());
+        log.info("# Refresh Token 발급 완료, userId: {}", userId);
+        return token;
     }
 
-    public RefreshToken findByUserId(UUID userId) {
-        return refreshTokenRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException(userId + "의 Refresh Token이 존재 X"));
-    }
+    /**
+     * 기존 토큰을 재발급됨으로 표시하고 같은 family의 새 토큰 발급
+     * <p>
+     * 재사용이 감지되면 family를 삭제한 상태로 커밋해야 하므로 예외가 나도 롤백하지 않는다.
+     *
+     * @return 새 원본 토큰
+     * @throws InvalidRefreshTokenException 서명/만료 검증 실패, 저장되지 않은 토큰, 이미 재발급된 토큰
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public String rotate(String refreshToken) {
+        JWTClaimsSet claims = jwtTokenProvider.getVerifiedClaims(refreshToken)
+                .orElseThrow(InvalidRefreshTokenException::invalid);
+        byte[] tokenHash = hash(refreshToken);
+        Instant now = Instant.now();
 
-    public void invalidateToken(UUID userId) {
-        refreshTokenRepository.deleteByUserId(userId);
-        log.info("# Refresh Token 폐기 처리 완료");
-    }
+        if (refreshTokenRepository.markRotated(tokenHash, now) == 0) {
+            int revoked = refreshTokenRepository.deleteFamilyOfRotated(tokenHash);
+            if (revoked > 0) {
+                log.warn("# 재발급된 Refresh Token 재사용 감지, family 폐기: userId={}, count={}",
+                        claims.getSubject(), revoked);
+                throw InvalidRefreshTokenException.reused(revoked);
+            }
+            throw InvalidRefreshTokenException.invalid();
+        }
 
-    public RefreshToken rotatedToken(UUID userId) {
-        RefreshToken oldToken = findByUserId(userId);
-        oldToken.invalidate();
-        refreshTokenRepository.save(oldToken);
+        String newToken = jwtTokenProvider.generateRefreshToken(claims.getSubject());
+        refreshTokenRepository.insertSuccessor(idStrategy.generate(), now, hash(newToken),
+                expiresAt(now), tokenHash);
+        log.info("# Refresh Token Rotate 성공, userId: {}", claims.getSubject());
+        return newToken;
+    }
 
-        String newTokenValue = jwtTokenProvider.generateRefreshToken(userId.toString());
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.withId(userId));
+    /**
+     * 로그아웃 등으로 사용자의 모든 토큰 폐기
+     */
+    @Transactional
+    public int revokeAll(UUID userId) {
+        int revoked = refreshTokenRepository.deleteAllByUserId(userId);
+        log.info("# Refresh Token 폐기 처리 완료, userId: {}, count: {}", userId, revoked);
+        return revoked;
+    }
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(newTokenValue)
-                .user(user)
-                .expiredAt(Instant.now().plusMillis(jwtTokenProvider.getRefreshTokenExpirationMinutes() * 60 * 1000))
-                .rotated(true)
-                .build();
-        log.info("# Refresh Token Rotate 성공, new refresh token: {}", refreshToken);
+    public static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        return refreshTokenRepository.save(refreshToken);
+    private Instant expiresAt(Instant issuedAt) {
+        return issuedAt.plus(Duration.ofMinutes(jwtTokenProvider.getRefreshTokenExpirationMinutes()));
     }
 }
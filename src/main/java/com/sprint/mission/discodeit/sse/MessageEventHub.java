@@ -0,0 +1,306 @@
+package com.sprint.mission.discodeit.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 채널 ID로 색인된 메시지 이벤트 fan-out 허브
+ * <p>
+ * - 연결: {@link SseEmitter}(비동기 서블릿)로 응답하므로 연결마다 서블릿 스레드를 점유하지 않는다.
+ * <p>
+ * - 발행: 이벤트는 한 번만 직렬화하고, 구독자별 버퍼에 넣기만 한다. 실제 전송은 고정 크기 전송 스레드 풀이 구독자 단위로 순서대로
+ * 처리한다.
+ * <p>
+ * - 느린 구독자: 버퍼가 가득 차면 해당 연결을 종료한다. (클라이언트는 재연결 후 커서 기반 조회로 누락분을 채운다)
+ * <p>
+ * - 멈춘 구독자: 소켓 쓰기는 블로킹이므로 읽지 않는 클라이언트는 전송 스레드를 붙잡는다. 전송 스레드 수와 대기열은 고정이고(연결당
+ * 스레드를 만들지 않음), 멈춘 쓰기는 커넥터의 소켓 쓰기 제한 시간(write-timeout과 같은 값)이 지나면 실패해 연결이 닫히고 스레드가
+ * 반환된다. 감시 작업은 그보다 먼저 구독을 해제하고 emitter를 오류로 종료한다. (전송 스레드 수만큼의 멈춘 연결은 다른 구독자의 전송을
+ * 최대 write-timeout만큼 늦출 수 있다)
+ * <p>
+ * - 대기열이 가득 차 전송 예약이 거절되면 이벤트는 구독자 버퍼에 남고, 감시 작업이 다시 예약한다.
+ */
+@Slf4j
+@Component
+public class MessageEventHub {
+
+  private final ConcurrentMap<UUID, Set<Subscriber>> subscribersByChannelId = new ConcurrentHashMap<>();
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  private final ObjectMapper objectMapper;
+  private final int bufferSize;
+  private final long timeoutMillis;
+  private final long writeTimeoutNanos;
+  private final ExecutorService deliveryExecutor;
+  private final ScheduledExecutorService heartbeatScheduler;
+
+  @Autowired
+  public MessageEventHub(ObjectMapper objectMapper,
+      @Value("${discodeit.sse.buffer-size:256}") int bufferSize,
+      @Value("${discodeit.sse.timeout-seconds:1800}") long timeoutSeconds,
+      @Value("${discodeit.sse.heartbeat-seconds:30}") long heartbeatSeconds,
+      @Value("${discodeit.sse.delivery-threads:4}") int deliveryThreads,
+      @Value("${discodeit.sse.delivery-queue-capacity:1024}") int deliveryQueueCapacity,
+      @Value("${discodeit.sse.write-timeout-seconds:10}") long writeTimeoutSeconds) {
+    this(objectMapper, bufferSize, Duration.ofSeconds(timeoutSeconds),
+        Duration.ofSeconds(writeTimeoutSeconds),
+        deliveryExecutor(deliveryThreads, deliveryQueueCapacity),
+        Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("sse-heartbeat-")));
+    heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds,
+        TimeUnit.SECONDS);
+    long watchdogMillis = Math.max(Duration.ofSeconds(writeTimeoutSeconds).toMillis() / 2, 100);
+    heartbeatScheduler.scheduleAtFixedRate(this::closeStalledWrites, watchdogMillis,
+        watchdogMillis, TimeUnit.MILLISECONDS);
+  }
+
+  MessageEventHub(ObjectMapper objectMapper, int bufferSize, Duration timeout,
+      Duration writeTimeout, ExecutorService deliveryExecutor,
+      ScheduledExecutorService heartbeatScheduler) {
+    this.objectMapper = objectMapper;
+    this.bufferSize = bufferSize;
+    this.timeoutMillis = timeout.toMillis();
+    this.writeTimeoutNanos = writeTimeout.toNanos();
+    this.deliveryExecutor = deliveryExecutor;
+    this.heartbeatScheduler = heartbeatScheduler;
+  }
+
+  public SseEmitter subscribe(UUID userId, Collection<UUID> channelIds) {
+    return register(new SseEmitter(timeoutMillis), userId, channelIds);
+  }
+
+  SseEmitter register(SseEmitter emitter, UUID userId, Collection<UUID> channelIds) {
+    Subscriber subscriber = new Subscriber(userId, Set.copyOf(channelIds), emitter, bufferSize);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(e -> unsubscribe(subscriber));
+
+    subscribers.add(subscriber);
+    for (UUID channelId : subscriber.channelIds) {
+      subscribersByChannelId.compute(channelId, (key, channelSubscribers) -> {
+        Set<Subscriber> set = channelSubscribers != null ? channelSubscribers
+            : ConcurrentHashMap.newKeySet();
+        set.add(subscriber);
+        return set;
+      });
+    }
+    log.debug("SSE 구독 시작: userId={}, channelCount={}", userId, subscriber.channelIds.size());
+    return emitter;
+  }
+
+  /**
+   * 트랜잭션이 커밋된 이후에만 전달한다. (롤백된 메시지가 클라이언트에 노출되지 않도록)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(MessageEvent event) {
+    publish(event);
+  }
+
+  public void publish(MessageEvent event) {
+    Set<Subscriber> channelSubscribers = subscribersByChannelId.get(event.channelId());
+    if (channelSubscribers == null || channelSubscribers.isEmpty()) {
+      return;
+    }
+
+    Set<DataWithMediaType> frame = toFrame(event);
+    for (Subscriber subscriber : channelSubscribers) {
+      offer(subscriber, frame);
+    }
+  }
+
+  /**
+   * 끊어진 연결을 감지하기 위해 주기적으로 주석 프레임을 보낸다.
+   */
+  void heartbeat() {
+    Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+    for (Subscriber subscriber : subscribers) {
+      offer(subscriber, frame);
+    }
+  }
+
+  /**
+   * write-timeout보다 오래 걸리는 쓰기의 연결을 종료하고, 전송 작업이 없는 채 남은 버퍼는 다시 전송을 예약한다.
+   * <p>
+   * completeWithError로 비동기 요청을 오류로 끝낸다. 컨테이너의 블로킹 쓰기는 소켓 쓰기 제한 시간(server.tomcat.connection-timeout,
+   * write-timeout과 같은 값)이 지나야 예외로 끝나므로, 그때 연결이 닫히고 전송 스레드가 반환된다. (emitter 종료나 interrupt로는 쓰기
+   * 대기가 끝나지 않음)
+   */
+  void closeStalledWrites() {
+    long now = System.nanoTime();
+    for (Subscriber subscriber : subscribers) {
+      long writeStartedAt = subscriber.writeStartedAt;
+      if (writeStartedAt != 0 && now - writeStartedAt > writeTimeoutNanos) {
+        long writeTimeoutMillis = TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos);
+        log.warn("SSE 전송 지연으로 연결 종료: userId={}, writeTimeoutMillis={}", subscriber.userId,
+            writeTimeoutMillis);
+        unsubscribe(subscriber);
+        subscriber.buffer.clear();
+        if (subscriber.completed.compareAndSet(false, true)) {
+          subscriber.emitter.completeWithError(
+              new TimeoutException("SSE write timed out after " + writeTimeoutMillis + "ms"));
+        }
+      } else if (!subscriber.buffer.isEmpty()) {
+        schedule(subscriber);
+      }
+    }
+  }
+
+  public int subscriberCount() {
+    return subscribers.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    subscribers.forEach(this::close);
+    heartbeatScheduler.shutdownNow();
+    deliveryExecutor.shutdown();
+  }
+
+  private void offer(Subscriber subscriber, Set<DataWithMediaType> frame) {
+    if (subscriber.closed.get()) {
+      return;
+    }
+    if (!subscriber.buffer.offer(frame)) {
+      log.warn("SSE 구독자 버퍼 초과로 연결 종료: userId={}, bufferSize={}", subscriber.userId,
+          bufferSize);
+      close(subscriber);
+      return;
+    }
+    schedule(subscriber);
+  }
+
+  private void schedule(Subscriber subscriber) {
+    if (!subscriber.draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      deliveryExecutor.execute(() -> drain(subscriber));
+    } catch (RejectedExecutionException e) {
+      subscriber.draining.set(false);
+    }
+  }
+
+  /**
+   * 구독자 하나의 버퍼를 비운다. draining 플래그로 구독자당 하나의 작업만 실행되므로 전송 순서가 유지된다.
+   */
+  private void drain(Subscriber subscriber) {
+    try {
+      Set<DataWithMediaType> frame;
+      while (!subscriber.closed.get() && (frame = subscriber.buffer.poll()) != null) {
+        subscriber.writeStartedAt = System.nanoTime();
+        try {
+          subscriber.emitter.send(frame);
+        } finally {
+          subscriber.writeStartedAt = 0;
+        }
+      }
+      if (subscriber.closed.get() && subscriber.completed.compareAndSet(false, true)) {
+        subscriber.emitter.complete();
+      }
+    } catch (Exception e) {
+      log.debug("SSE 전송 실패로 구독 해제: userId={}, message={}", subscriber.userId, e.getMessage());
+      unsubscribe(subscriber);
+      return;
+    } finally {
+      subscriber.draining.set(false);
+    }
+
+    if (!subscriber.closed.get() && !subscriber.buffer.isEmpty()) {
+      schedule(subscriber);
+    }
+  }
+
+  /**
+   * 색인에서 제거하고 전송 스레드가 연결을 종료하도록 한다. 발행 스레드가 느린 연결의 전송을 기다리지 않게 하기 위함
+   */
+  private void close(Subscriber subscriber) {
+    unsubscribe(subscriber);
+    subscriber.buffer.clear();
+    schedule(subscriber);
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    if (!subscriber.closed.compareAndSet(false, true)) {
+      return;
+    }
+    subscribers.remove(subscriber);
+    for (UUID channelId : subscriber.channelIds) {
+      subscribersByChannelId.computeIfPresent(channelId, (key, channelSubscribers) -> {
+        channelSubscribers.remove(subscriber);
+        return channelSubscribers.isEmpty() ? null : channelSubscribers;
+      });
+    }
+    log.debug("SSE 구독 종료: userId={}", subscriber.userId);
+  }
+
+  private Set<DataWithMediaType> toFrame(MessageEvent event) {
+    try {
+      return SseEmitter.event()
+          .id(event.messageId().toString())
+          .name(event.type().eventName())
+          .data(objectMapper.writeValueAsString(event))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 고정 크기 스레드 풀과 크기가 정해진 대기열. 구독자당 전송 작업은 하나뿐이므로 대기열에는 구독자 수보다 많은 작업이 쌓이지 않는다.
+   */
+  static ThreadPoolExecutor deliveryExecutor(int threads, int queueCapacity) {
+    return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("sse-delivery-"));
+  }
+
+  private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+
+  private static final class Subscriber {
+
+    private final UUID userId;
+    private final Set<UUID> channelIds;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    // 진행 중인 쓰기의 시작 시각 (System.nanoTime, 쓰기 중이 아니면 0)
+    private volatile long writeStartedAt;
+
+    private Subscriber(UUID userId, Set<UUID> channelIds, SseEmitter emitter, int bufferSize) {
+      this.userId = userId;
+      this.channelIds = channelIds;
+      this.emitter = emitter;
+      this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+  }
+}
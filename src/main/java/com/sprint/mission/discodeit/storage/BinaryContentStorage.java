@@ -1,15 +1,43 @@
 package com.sprint.mission.discodeit.storage;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.UUID;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.http.ResponseEntity;
 
 public interface BinaryContentStorage {
 
-  UUID put(UUID binaryContentId, byte[] bytes);
+  /**
+   * 실제 저장소 구현체(local, s3)의 qualifier. 내용 기반 저장 모드에서는 이 구현체를 감싼 저장소가 주입된다.
+   */
+  String BACKEND = "binaryContentStorageBackend";
+
+  /**
+   * 스트림을 size 바이트만큼 저장한다. 구현체는 전체 내용을 힙에 올리지 않고 복사해야 한다.
+   */
+  UUID put(UUID binaryContentId, InputStream inputStream, long size);
+
+  default UUID put(UUID binaryContentId, InputStreamSource source, long size) {
+    try (InputStream inputStream = source.getInputStream()) {
+      return put(binaryContentId, inputStream, size);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  default UUID put(UUID binaryContentId, byte[] bytes) {
+    return put(binaryContentId, new ByteArrayInputStream(bytes), bytes.length);
+  }
 
   InputStream get(UUID binaryContentId);
 
+  /**
+   * 저장된 내용을 삭제한다. 없으면 무시한다.
+   */
+  void delete(UUID binaryContentId);
+
   ResponseEntity<?> download(BinaryContentDto metaData);
 }
@@ -0,0 +1,91 @@
+package com.sprint.mission.discodeit.storage.dedup;
+
+import com.sprint.mission.discodeit.repository.BlobRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 참조가 없는 Blob 정리
+ * <p>
+ * - min-age: 업로드 직후 아직 참조가 커밋되지 않은 Blob을 지우지 않도록 생성 후 일정 시간이 지난 Blob만 대상으로 한다.
+ * <p>
+ * - Blob 행을 먼저 삭제(커밋)한 뒤 실제 저장소에서 지운다. 그 사이 새로 참조되면 FK 제약으로 삭제가 실패하므로 건너뛴다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "discodeit.storage.dedup.enabled", havingValue = "true")
+@Component
+public class BlobGarbageCollector {
+
+  private final BinaryContentStorage backend;
+  private final BlobRepository blobRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration minAge;
+  private final int batchSize;
+
+  public BlobGarbageCollector(
+      @Qualifier(BinaryContentStorage.BACKEND) BinaryContentStorage backend,
+      BlobRepository blobRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${discodeit.storage.dedup.gc.min-age:PT1H}") Duration minAge,
+      @Value("${discodeit.storage.dedup.gc.batch-size:500}") int batchSize
+  ) {
+    this.backend = backend;
+    this.blobRepository = blobRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.minAge = minAge;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.storage.dedup.gc.interval:PT1H}",
+      initialDelayString = "${discodeit.storage.dedup.gc.interval:PT1H}")
+  public void scheduledCollect() {
+    collect();
+  }
+
+  /**
+   * @return 삭제한 Blob 수
+   */
+  public int collect() {
+    Instant createdBefore = Instant.now().minus(minAge);
+    int collected = 0;
+    List<UUID> candidates;
+    do {
+      candidates = blobRepository.findUnreferencedIds(createdBefore, PageRequest.of(0, batchSize));
+      for (UUID blobId : candidates) {
+        if (deleteIfUnreferenced(blobId)) {
+          backend.delete(blobId);
+          collected++;
+        }
+      }
+    } while (candidates.size() == batchSize);
+
+    if (collected > 0) {
+      log.info("참조 없는 Blob 정리 완료: count={}", collected);
+    }
+    return collected;
+  }
+
+  private boolean deleteIfUnreferenced(UUID blobId) {
+    try {
+      Integer deleted = transactionTemplate.execute(
+          status -> blobRepository.deleteIfUnreferenced(blobId));
+      return deleted != null && deleted > 0;
+    } catch (DataIntegrityViolationException e) {
+      log.debug("정리 중 다시 참조된 Blob: blobId={}", blobId);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.sprint.mission.discodeit.storage.dedup;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.Blob;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.BlobRepository;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내용 기반(content-addressed) 저장소
+ * <p>
+ * - 업로드 스트림을 임시 파일로 복사하면서 SHA-256을 계산하고, 같은 digest의 Blob이 이미 있으면 실제 저장소에 쓰지 않는다.
+ * <p>
+ * - 실제 저장소(local, s3)에는 binaryContentId 대신 digest로 만든 Blob ID를 key로 저장한다.
+ * <p>
+ * - BinaryContent는 Blob을 참조하고, 참조가 없어진 Blob은 {@link BlobGarbageCollector}가 정리한다.
+ * <p>
+ * - staged upload는 아직 BinaryContent가 없으므로 Blob을 pending 항목에 기록하고, 승격할 때
+ * {@link com.sprint.mission.discodeit.storage.staging.UploadPromoter}가 BinaryContent에 연결한다.
+ * <p>
+ * - blob_id가 없는 항목(기존 항목)은 binaryContentId를 key로 실제 저장소를 그대로 사용한다.
+ */
+@Slf4j
+@Primary
+@ConditionalOnProperty(name = "discodeit.storage.dedup.enabled", havingValue = "true")
+@Component
+public class ContentAddressedBinaryContentStorage implements BinaryContentStorage {
+
+  private final BinaryContentStorage backend;
+  private final BinaryContentRepository binaryContentRepository;
+  private final BlobRepository blobRepository;
+  private final PendingUploadRepository pendingUploadRepository;
+  private final TransactionTemplate newTransaction;
+
+  public ContentAddressedBinaryContentStorage(
+      @Qualifier(BinaryContentStorage.BACKEND) BinaryContentStorage backend,
+      BinaryContentRepository binaryContentRepository,
+      BlobRepository blobRepository,
+      PendingUploadRepository pendingUploadRepository,
+      PlatformTransactionManager transactionManager
+  ) {
+    this.backend = backend;
+    this.binaryContentRepository = binaryContentRepository;
+    this.blobRepository = blobRepository;
+    this.pendingUploadRepository = pendingUploadRepository;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 저장 순서: 실제 저장소 → Blob 행(별도 트랜잭션으로 커밋) → BinaryContent 또는 pending 항목의 참조(호출한 트랜잭션)
+   * <p>
+   * 호출한 트랜잭션이 롤백되어도 Blob은 참조 없는 상태로 남아 GC 대상이 되므로 저장소에 추적되지 않는 파일이 생기지 않는다.
+   */
+  @Transactional
+  @Override
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
+    Optional<BinaryContent> optionalBinaryContent = binaryContentRepository.findById(
+        binaryContentId);
+    if (optionalBinaryContent.isPresent()) {
+      UUID blobId = storeBlob(binaryContentId, inputStream, size);
+      optionalBinaryContent.get().assignBlob(blobRepository.getReferenceById(blobId));
+      return binaryContentId;
+    }
+    if (pendingUploadRepository.existsById(binaryContentId)) {
+      // 메타데이터보다 먼저 업로드하는 경우(staged upload): 승격할 때 연결하도록 pending 항목에 기록
+      UUID blobId = storeBlob(binaryContentId, inputStream, size);
+      pendingUploadRepository.assignBlob(binaryContentId, blobRepository.getReferenceById(blobId));
+      return binaryContentId;
+    }
+    // 연결할 항목이 없으면 ID를 key로 그대로 저장
+    return backend.put(binaryContentId, inputStream, size);
+  }
+
+  /**
+   * 같은 digest의 Blob이 있으면 실제 저장소에 쓰지 않는다.
+   *
+   * @return Blob ID
+   */
+  private UUID storeBlob(UUID binaryContentId, InputStream inputStream, long size) {
+    Path spool = createSpoolFile();
+    try {
+      String digest = copyAndDigest(inputStream, spool, size);
+      UUID blobId = UUID.nameUUIDFromBytes(HexFormat.of().parseHex(digest));
+
+      if (blobRepository.existsById(blobId)) {
+        log.debug("중복 내용 재사용: binaryContentId={}, blobId={}", binaryContentId, blobId);
+      } else {
+        store(blobId, spool, size);
+        saveBlob(new Blob(blobId, digest, size));
+        log.debug("새 Blob 저장: binaryContentId={}, blobId={}, size={}", binaryContentId, blobId,
+            size);
+      }
+      return blobId;
+    } finally {
+      deleteQuietly(spool);
+    }
+  }
+
+  @Override
+  public InputStream get(UUID binaryContentId) {
+    return backend.get(resolveKey(binaryContentId));
+  }
+
+  /**
+   * 같은 내용은 같은 key로 내려가므로 ETag, Presigned URL 캐시도 내용 단위로 공유된다.
+   */
+  @Override
+  public ResponseEntity<?> download(BinaryContentDto metaData) {
+    UUID key = resolveKey(metaData.id());
+    return backend.download(
+        new BinaryContentDto(key, metaData.fileName(), metaData.size(), metaData.contentType()));
+  }
+
+  /**
+   * Blob을 참조하는 항목은 다른 항목과 공유될 수 있으므로 여기서 지우지 않고 GC에 맡긴다. (승격되지 않은 staged upload는 pending
+   * 항목이 삭제되면 Blob이 참조 없는 상태가 된다)
+   */
+  @Override
+  public void delete(UUID binaryContentId) {
+    if (binaryContentRepository.findBlobIdById(binaryContentId).isEmpty()) {
+      backend.delete(binaryContentId);
+    }
+  }
+
+  private UUID resolveKey(UUID binaryContentId) {
+    return binaryContentRepository.findBlobIdById(binaryContentId).orElse(binaryContentId);
+  }
+
+  private void store(UUID blobId, Path spool, long size) {
+    try (InputStream inputStream = Files.newInputStream(spool)) {
+      backend.put(blobId, inputStream, size);
+    } catch (IllegalArgumentException e) {
+      // 같은 내용을 동시에 처음 업로드한 경우 (local 저장소의 key 중복)
+      log.debug("이미 저장된 Blob: blobId={}", blobId);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void saveBlob(Blob blob) {
+    try {
+      newTransaction.executeWithoutResult(status -> blobRepository.saveAndFlush(blob));
+    } catch (DataIntegrityViolationException e) {
+      // 동시에 같은 digest의 Blob이 먼저 커밋된 경우
+      log.debug("이미 등록된 Blob: blobId={}", blob.getId());
+    }
+  }
+
+  private static String copyAndDigest(InputStream inputStream, Path spool, long size) {
+    MessageDigest messageDigest = sha256();
+    try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, messageDigest);
+        OutputStream outputStream = Files.newOutputStream(spool)) {
+      long copied = digestInputStream.transferTo(outputStream);
+      if (copied != size) {
+        throw new IOException("Expected " + size + " bytes but got " + copied);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return HexFormat.of().formatHex(messageDigest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Path createSpoolFile() {
+    try {
+      return Files.createTempFile("discodeit-upload-", ".tmp");
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException ignored) {
+      // 임시 파일 정리 실패는 업로드 결과에 영향을 주지 않는다
+    }
+  }
+}
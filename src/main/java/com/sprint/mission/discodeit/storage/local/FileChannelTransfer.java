@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.storage.local;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+
+/**
+ * 파일 리소스 응답을 FileChannel.transferTo로 전송하는 메시지 컨버터 모음
+ * <p>
+ * 기본 컨버터는 InputStream을 열어 힙 버퍼로 복사(Range 요청은 앞부분을 skip)한다. 파일 기반 리소스는 요청한 위치부터 채널로
+ * 직접 전송하고, 그 외 리소스는 기본 동작을 따른다.
+ */
+public final class FileChannelTransfer {
+
+  private FileChannelTransfer() {
+  }
+
+  static void transfer(Path path, long position, long count, OutputStream outputStream)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(outputStream);
+      long end = position + count;
+      while (position < end) {
+        long transferred = channel.transferTo(position, end - position, target);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+      }
+    }
+  }
+
+  /**
+   * 전체 응답(200)
+   */
+  public static class ResourceConverter extends ResourceHttpMessageConverter {
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage)
+        throws IOException {
+      if (!resource.isFile()) {
+        super.writeContent(resource, outputMessage);
+        return;
+      }
+      transfer(resource.getFile().toPath(), 0, resource.contentLength(), outputMessage.getBody());
+    }
+  }
+
+  /**
+   * 단일 Range 응답(206). 여러 구간(multipart/byteranges)은 기본 동작을 따른다.
+   */
+  public static class ResourceRegionConverter extends ResourceRegionHttpMessageConverter {
+
+    @Override
+    protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage)
+        throws IOException {
+      Resource resource = region.getResource();
+      if (!resource.isFile()) {
+        super.writeResourceRegion(region, outputMessage);
+        return;
+      }
+      long resourceLength = resource.contentLength();
+      long start = region.getPosition();
+      long end = Math.min(start + region.getCount() - 1, resourceLength - 1);
+      long rangeLength = end - start + 1;
+
+      HttpHeaders headers = outputMessage.getHeaders();
+      headers.add(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + resourceLength);
+      headers.setContentLength(rangeLength);
+      transfer(resource.getFile().toPath(), start, rangeLength, outputMessage.getBody());
+    }
+  }
+}
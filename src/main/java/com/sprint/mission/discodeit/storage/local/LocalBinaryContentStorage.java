@@ -3,16 +3,23 @@ package com.sprint.mission.discodeit.storage.local;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import jakarta.annotation.PostConstruct;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -20,6 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 @ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "local")
+@Qualifier(BinaryContentStorage.BACKEND)
 @Component
 public class LocalBinaryContentStorage implements BinaryContentStorage {
 
@@ -43,19 +51,49 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
-  public UUID put(UUID binaryContentId, byte[] bytes) {
+  /**
+   * FileChannel.transferFrom으로 복사한다. 고정 크기 버퍼를 재사용하므로 파일 크기와 관계없이 힙 사용량이 일정하다.
+   * <p>
+   * 채널 간 직접 전송은 {@link FileInputStream}일 때만 가능하다. multipart 업로드의 스트림은 임시 파일에 저장된 경우에도
+   * FileInputStream이 아니므로(Tomcat은 {@link Files#newInputStream}을 반환) 버퍼 복사로 저장된다.
+   */
+  @Override
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
     Path filePath = resolvePath(binaryContentId);
-    if (Files.exists(filePath)) {
+    try (FileChannel target = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.WRITE)) {
+      ReadableByteChannel source = inputStream instanceof FileInputStream fileInputStream
+          ? fileInputStream.getChannel()
+          : Channels.newChannel(inputStream);
+      long position = 0;
+      while (position < size) {
+        long transferred = target.transferFrom(source, position, size - position);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+      }
+      if (position != size) {
+        throw new IOException(
+            "Expected " + size + " bytes for key " + binaryContentId + " but got " + position);
+      }
+    } catch (FileAlreadyExistsException e) {
       throw new IllegalArgumentException("File with key " + binaryContentId + " already exists");
-    }
-    try (OutputStream outputStream = Files.newOutputStream(filePath)) {
-      outputStream.write(bytes);
     } catch (IOException e) {
+      deleteQuietly(filePath);
       throw new RuntimeException(e);
     }
     return binaryContentId;
   }
 
+  private void deleteQuietly(Path filePath) {
+    try {
+      Files.deleteIfExists(filePath);
+    } catch (IOException ignored) {
+      // 불완전한 파일 정리 실패는 원래 예외를 우선한다
+    }
+  }
+
   public InputStream get(UUID binaryContentId) {
     Path filePath = resolvePath(binaryContentId);
     if (Files.notExists(filePath)) {
@@ -69,21 +107,44 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void delete(UUID binaryContentId) {
+    try {
+      Files.deleteIfExists(resolvePath(binaryContentId));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private Path resolvePath(UUID key) {
     return root.resolve(key.toString());
   }
 
+  /**
+   * 파일 리소스로 응답해 Spring MVC가 Range(206)와 조건부 요청(304)을 처리하도록 한다.
+   * <p>
+   * 같은 ID의 내용은 변경되지 않으므로 ID를 strong ETag로 사용한다.
+   */
   @Override
   public ResponseEntity<Resource> download(BinaryContentDto metaData) {
-    InputStream inputStream = get(metaData.id());
-    Resource resource = new InputStreamResource(inputStream);
+    Path filePath = resolvePath(metaData.id());
+    if (Files.notExists(filePath)) {
+      throw new NoSuchElementException("File with key " + metaData.id() + " does not exist");
+    }
+    Instant lastModified;
+    try {
+      lastModified = Files.getLastModifiedTime(filePath).toInstant();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
 
     return ResponseEntity
         .status(HttpStatus.OK)
+        .eTag("\"" + metaData.id() + "\"")
+        .lastModified(lastModified)
         .header(HttpHeaders.CONTENT_DISPOSITION,
             "attachment; filename=\"" + metaData.fileName() + "\"")
         .header(HttpHeaders.CONTENT_TYPE, metaData.contentType())
-        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(metaData.size()))
-        .body(resource);
+        .body(new FileSystemResource(filePath));
   }
 }
@@ -0,0 +1,109 @@
+package com.sprint.mission.discodeit.storage.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+/**
+ * Presigned URL 캐시
+ * <p>
+ * - key: (binaryContentId, contentType)
+ * <p>
+ * - 각 항목은 URL 유효 시간 중 reuse-ratio 만큼만 재사용하고, 이후 요청에서 새로 서명한다. (만료 직전 URL로 리다이렉트하지 않도록)
+ * <p>
+ * - 같은 URL을 반복해서 돌려주므로 브라우저가 리다이렉트 대상을 캐시할 수 있다.
+ * <p>
+ * - 조회 결과는 Actuator의 cache.gets{cache=presignedUrl, result=hit|miss} 지표로 확인할 수 있다.
+ */
+@ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
+@Component
+public class PresignedUrlCache {
+
+  static final String CACHE_NAME = "presignedUrl";
+
+  private final Cache<Key, PresignedUrl> cache;
+  private final double reuseRatio;
+  private final Clock clock;
+
+  @Autowired
+  public PresignedUrlCache(MeterRegistry meterRegistry,
+      @Value("${discodeit.storage.s3.presigned-url-cache.maximum-size:10000}") long maximumSize,
+      @Value("${discodeit.storage.s3.presigned-url-cache.reuse-ratio:0.5}") double reuseRatio) {
+    this(meterRegistry, maximumSize, reuseRatio, Ticker.systemTicker(), Clock.systemUTC());
+  }
+
+  PresignedUrlCache(MeterRegistry meterRegistry, long maximumSize, double reuseRatio,
+      Ticker ticker, Clock clock) {
+    if (reuseRatio <= 0 || reuseRatio > 1) {
+      throw new IllegalArgumentException("reuse-ratio must be in (0, 1]: " + reuseRatio);
+    }
+    this.reuseRatio = reuseRatio;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new ExpireAtReuseUntil())
+        .ticker(ticker)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 재사용 가능한 URL이 있으면 반환하고, 없으면 signer로 새로 서명해 저장한다. (같은 key의 동시 요청은 한 번만 서명)
+   */
+  public PresignedUrl get(UUID binaryContentId, String contentType,
+      Supplier<PresignedGetObjectRequest> signer) {
+    return cache.get(new Key(binaryContentId, contentType), key -> {
+      Instant signedAt = clock.instant();
+      PresignedGetObjectRequest presignedRequest = signer.get();
+      Duration lifetime = Duration.between(signedAt, presignedRequest.expiration());
+      Instant reuseUntil = signedAt.plusMillis((long) (lifetime.toMillis() * reuseRatio));
+      return new PresignedUrl(presignedRequest.url().toString(), reuseUntil);
+    });
+  }
+
+  private record Key(UUID binaryContentId, String contentType) {
+
+  }
+
+  /**
+   * @param reuseUntil 이 시각까지 같은 URL을 반환한다. (리다이렉트 응답의 Cache-Control max-age 계산에 사용)
+   */
+  public record PresignedUrl(String url, Instant reuseUntil) {
+
+  }
+
+  private class ExpireAtReuseUntil implements Expiry<Key, PresignedUrl> {
+
+    @Override
+    public long expireAfterCreate(Key key, PresignedUrl value, long currentTime) {
+      Duration remaining = Duration.between(clock.instant(), value.reuseUntil());
+      return remaining.isNegative() ? 0 : remaining.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(Key key, PresignedUrl value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Key key, PresignedUrl value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
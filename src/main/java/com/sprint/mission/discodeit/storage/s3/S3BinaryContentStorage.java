@@ -2,117 +2,163 @@ package com.sprint.mission.discodeit.storage.s3;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
-import java.io.ByteArrayInputStream;
+import com.sprint.mission.discodeit.storage.s3.PresignedUrlCache.PresignedUrl;
 import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+/**
+ * S3 저장소
+ * <p>
+ * 클라이언트는 {@link com.sprint.mission.discodeit.config.S3ClientConfig}의 싱글톤 빈을 주입받아 커넥션 풀을 공유한다.
+ */
 @Slf4j
 @ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
+@Qualifier(BinaryContentStorage.BACKEND)
 @Component
 public class S3BinaryContentStorage implements BinaryContentStorage {
 
-  private final String accessKey;
-  private final String secretKey;
-  private final String region;
+  private final S3Client s3Client;
+  private final S3AsyncClient s3AsyncClient;
+  private final S3Presigner s3Presigner;
+  private final PresignedUrlCache presignedUrlCache;
   private final String bucket;
+  private final long multipartThresholdBytes;
 
   @Value("${discodeit.storage.s3.presigned-url-expiration:600}") // 기본값 10분
   private long presignedUrlExpirationSeconds;
 
   public S3BinaryContentStorage(
-      @Value("${discodeit.storage.s3.access-key}") String accessKey,
-      @Value("${discodeit.storage.s3.secret-key}") String secretKey,
-      @Value("${discodeit.storage.s3.region}") String region,
-      @Value("${discodeit.storage.s3.bucket}") String bucket
+      S3Client s3Client,
+      S3AsyncClient s3AsyncClient,
+      S3Presigner s3Presigner,
+      PresignedUrlCache presignedUrlCache,
+      @Value("${discodeit.storage.s3.bucket}") String bucket,
+      @Value("${discodeit.storage.s3.multipart.threshold-bytes:8388608}") long multipartThresholdBytes
   ) {
-    this.accessKey = accessKey;
-    this.secretKey = secretKey;
-    this.region = region;
+    this.s3Client = s3Client;
+    this.s3AsyncClient = s3AsyncClient;
+    this.s3Presigner = s3Presigner;
+    this.presignedUrlCache = presignedUrlCache;
     this.bucket = bucket;
+    this.multipartThresholdBytes = multipartThresholdBytes;
   }
 
+  /**
+   * Content-Length를 지정한 스트리밍 요청 본문으로 업로드한다. (전체 내용을 byte[]로 읽지 않음)
+   * <p>
+   * threshold 이상인 객체는 비동기 클라이언트가 part 단위로 나누어 병렬 업로드한다.
+   */
   @Override
-  public UUID put(UUID binaryContentId, byte[] bytes) {
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
     String key = binaryContentId.toString();
+    PutObjectRequest request = PutObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .contentLength(size)
+        .build();
     try {
-      S3Client s3Client = getS3Client();
-
-      PutObjectRequest request = PutObjectRequest.builder()
-          .bucket(bucket)
-          .key(key)
-          .build();
-
-      s3Client.putObject(request, RequestBody.fromBytes(bytes));
-      log.info("S3에 파일 업로드 성공: {}", key);
-
+      if (size >= multipartThresholdBytes) {
+        putMultipart(request, inputStream, size);
+      } else {
+        s3Client.putObject(request, RequestBody.fromInputStream(inputStream, size));
+      }
+      log.info("S3에 파일 업로드 성공: key={}, size={}", key, size);
       return binaryContentId;
-    } catch (S3Exception e) {
+    } catch (SdkException | CompletionException e) {
       log.error("S3에 파일 업로드 실패: {}", e.getMessage());
       throw new RuntimeException("S3에 파일 업로드 실패: " + key, e);
     }
   }
 
+  /**
+   * 호출 스레드가 스트림을 읽어 넘기고, 분할된 part는 비동기 클라이언트의 커넥션 풀에서 동시에 전송된다.
+   */
+  private void putMultipart(PutObjectRequest request, InputStream inputStream, long size) {
+    BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(size);
+    CompletableFuture<PutObjectResponse> response = s3AsyncClient.putObject(request, body);
+    body.writeInputStream(inputStream);
+    response.join();
+  }
+
+  /**
+   * 응답 본문을 그대로 스트림으로 반환한다. 호출한 쪽에서 닫아야 커넥션이 풀로 반환된다.
+   */
   @Override
   public InputStream get(UUID binaryContentId) {
     String key = binaryContentId.toString();
     try {
-      S3Client s3Client = getS3Client();
-
       GetObjectRequest request = GetObjectRequest.builder()
           .bucket(bucket)
           .key(key)
           .build();
 
-      byte[] bytes = s3Client.getObjectAsBytes(request).asByteArray();
-      return new ByteArrayInputStream(bytes);
+      return s3Client.getObject(request);
     } catch (S3Exception e) {
       log.error("S3에서 파일 다운로드 실패: {}", e.getMessage());
       throw new NoSuchElementException("File with key " + key + " does not exist");
     }
   }
 
-  private S3Client getS3Client() {
-    return S3Client.builder()
-        .region(Region.of(region))
-        .credentialsProvider(
-            StaticCredentialsProvider.create(
-                AwsBasicCredentials.create(accessKey, secretKey)
-            )
-        )
-        .build();
+  @Override
+  public void delete(UUID binaryContentId) {
+    String key = binaryContentId.toString();
+    try {
+      s3Client.deleteObject(DeleteObjectRequest.builder()
+          .bucket(bucket)
+          .key(key)
+          .build());
+      log.info("S3 파일 삭제 성공: key={}", key);
+    } catch (SdkException e) {
+      log.error("S3 파일 삭제 실패: {}", e.getMessage());
+      throw new RuntimeException("S3 파일 삭제 실패: " + key, e);
+    }
   }
 
+  /**
+   * 캐시된 Presigned URL로 리다이렉트한다. 재사용 기간 동안은 같은 URL이므로 브라우저도 리다이렉트를 캐시할 수 있다.
+   */
   @Override
   public ResponseEntity<Void> download(BinaryContentDto metaData) {
     try {
-      String key = metaData.id().toString();
-      String presignedUrl = generatePresignedUrl(key, metaData.contentType());
+      PresignedUrl presignedUrl = presignedUrlCache.get(metaData.id(), metaData.contentType(),
+          () -> presign(metaData.id().toString(), metaData.contentType()));
+      Duration maxAge = Duration.between(Instant.now(), presignedUrl.reuseUntil());
 
-      log.info("생성된 Presigned URL: {}", presignedUrl);
+      log.debug("Presigned URL 반환: {}", presignedUrl.url());
 
       return ResponseEntity
           .status(HttpStatus.FOUND)
-          .header(HttpHeaders.LOCATION, presignedUrl)
+          .header(HttpHeaders.LOCATION, presignedUrl.url())
+          .cacheControl(CacheControl.maxAge(maxAge.isNegative() ? Duration.ZERO : maxAge)
+              .cachePrivate())
           .build();
     } catch (Exception e) {
       log.error("Presigned URL 생성 실패: {}", e.getMessage());
@@ -120,32 +166,18 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     }
   }
 
-  private String generatePresignedUrl(String key, String contentType) {
-    try (S3Presigner presigner = getS3Presigner()) {
-      GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-          .bucket(bucket)
-          .key(key)
-          .responseContentType(contentType)
-          .build();
-
-      GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-          .signatureDuration(Duration.ofSeconds(presignedUrlExpirationSeconds))
-          .getObjectRequest(getObjectRequest)
-          .build();
-
-      PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(presignRequest);
-      return presignedRequest.url().toString();
-    }
-  }
+  private PresignedGetObjectRequest presign(String key, String contentType) {
+    GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .responseContentType(contentType)
+        .build();
 
-  private S3Presigner getS3Presigner() {
-    return S3Presigner.builder()
-        .region(Region.of(region))
-        .credentialsProvider(
-            StaticCredentialsProvider.create(
-                AwsBasicCredentials.create(accessKey, secretKey)
-            )
-        )
+    GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+        .signatureDuration(Duration.ofSeconds(presignedUrlExpirationSeconds))
+        .getObjectRequest(getObjectRequest)
         .build();
+
+    return s3Presigner.presignGetObject(presignRequest);
   }
-} 
\ No newline at end of file
+}
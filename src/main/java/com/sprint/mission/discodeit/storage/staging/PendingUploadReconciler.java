@@ -0,0 +1,76 @@
+package com.sprint.mission.discodeit.storage.staging;
+
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 승격되지 않은 업로드 정리
+ * <p>
+ * grace-period가 지난 pending 항목 중 BinaryContent가 있으면 승격만 하고, 없으면(메타데이터 저장 실패, 롤백) 저장소의 파일과
+ * 함께 삭제한다. 파일을 먼저 지우므로 중간에 실패해도 다음 실행에서 다시 시도된다.
+ */
+@Slf4j
+@Component
+public class PendingUploadReconciler {
+
+  private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentRepository binaryContentRepository;
+  private final PendingUploadRepository pendingUploadRepository;
+  private final Duration gracePeriod;
+  private final int batchSize;
+
+  public PendingUploadReconciler(
+      BinaryContentStorage binaryContentStorage,
+      BinaryContentRepository binaryContentRepository,
+      PendingUploadRepository pendingUploadRepository,
+      @Value("${discodeit.storage.staged-upload.grace-period:PT15M}") Duration gracePeriod,
+      @Value("${discodeit.storage.staged-upload.batch-size:500}") int batchSize
+  ) {
+    this.binaryContentStorage = binaryContentStorage;
+    this.binaryContentRepository = binaryContentRepository;
+    this.pendingUploadRepository = pendingUploadRepository;
+    this.gracePeriod = gracePeriod;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.storage.staged-upload.reconcile-interval:PT5M}",
+      initialDelayString = "${discodeit.storage.staged-upload.reconcile-interval:PT5M}")
+  public void scheduledReconcile() {
+    reconcile();
+  }
+
+  /**
+   * @return 정리(삭제)한 업로드 수
+   */
+  public int reconcile() {
+    Instant createdBefore = Instant.now().minus(gracePeriod);
+    int removed = 0;
+    List<UUID> pendingIds;
+    do {
+      pendingIds = pendingUploadRepository.findIdsCreatedBefore(createdBefore,
+          PageRequest.of(0, batchSize));
+      for (UUID pendingId : pendingIds) {
+        if (!binaryContentRepository.existsById(pendingId)) {
+          binaryContentStorage.delete(pendingId);
+          removed++;
+        }
+        pendingUploadRepository.deleteById(pendingId);
+      }
+    } while (pendingIds.size() == batchSize);
+
+    if (removed > 0) {
+      log.info("승격되지 않은 업로드 정리 완료: count={}", removed);
+    }
+    return removed;
+  }
+}
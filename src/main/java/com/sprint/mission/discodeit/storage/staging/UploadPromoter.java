@@ -0,0 +1,49 @@
+package com.sprint.mission.discodeit.storage.staging;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.PendingUpload;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미리 업로드한 파일을 BinaryContent로 승격
+ * <p>
+ * pending 항목을 삭제하고, 내용 기반 저장소가 Blob으로 저장한 업로드는 그 Blob을 BinaryContent에 연결한다. BinaryContent를 저장하는
+ * 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+public class UploadPromoter {
+
+  private final PendingUploadRepository pendingUploadRepository;
+
+  public UploadPromoter(PendingUploadRepository pendingUploadRepository) {
+    this.pendingUploadRepository = pendingUploadRepository;
+  }
+
+  public void promote(BinaryContent binaryContent) {
+    promoteAll(List.of(binaryContent));
+  }
+
+  /**
+   * @param binaryContents staged ID로 저장한 BinaryContent 목록
+   */
+  public void promoteAll(Collection<BinaryContent> binaryContents) {
+    if (binaryContents.isEmpty()) {
+      return;
+    }
+    Map<UUID, BinaryContent> binaryContentsById = binaryContents.stream()
+        .collect(Collectors.toMap(BinaryContent::getId, Function.identity()));
+
+    for (PendingUpload pendingUpload : pendingUploadRepository.findAllWithBlobByIdIn(
+        binaryContentsById.keySet())) {
+      binaryContentsById.get(pendingUpload.getId()).assignBlob(pendingUpload.getBlob());
+    }
+    pendingUploadRepository.promoteAll(binaryContentsById.keySet());
+  }
+}
@@ -0,0 +1,187 @@
+package com.sprint.mission.discodeit.storage.staging;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.entity.PendingUpload;
+import com.sprint.mission.discodeit.entity.base.UuidStrategy;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트랜잭션 밖에서 파일을 저장소에 먼저 업로드한다. (staged upload)
+ * <p>
+ * - 업로드 전에 pending 항목을 커밋해 두므로, 이후 메타데이터 저장이 실패하거나 롤백되어도 reconciler가 파일을 정리할 수 있다.
+ * <p>
+ * - 서비스의 트랜잭션은 메타데이터 저장과 pending 항목 삭제(승격)만 하므로 커넥션 점유 시간이 전송 시간과 무관해진다.
+ * <p>
+ * - 여러 파일은 고정 크기 스레드 풀에서 동시에 업로드한다. 대기열이 가득 차면 요청 스레드가 직접 업로드한다.
+ * <p>
+ * - 스테이징을 끈 경우에도 서비스는 {@link #uploadAll}로 같은 스레드 풀을 거쳐 업로드한다. (트랜잭션 안에서)
+ */
+@Slf4j
+@Component
+public class UploadStager {
+
+  private final BinaryContentStorage binaryContentStorage;
+  private final PendingUploadRepository pendingUploadRepository;
+  private final UuidStrategy uuidStrategy;
+  private final boolean enabled;
+  private final Executor executor;
+
+  @Autowired
+  public UploadStager(
+      BinaryContentStorage binaryContentStorage,
+      PendingUploadRepository pendingUploadRepository,
+      UuidStrategy uuidStrategy,
+      @Value("${discodeit.storage.staged-upload.enabled:true}") boolean enabled,
+      @Value("${discodeit.storage.staged-upload.threads:8}") int threads,
+      @Value("${discodeit.storage.staged-upload.queue-capacity:64}") int queueCapacity
+  ) {
+    this(binaryContentStorage, pendingUploadRepository, uuidStrategy, enabled,
+        new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("upload-stager-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()));
+  }
+
+  UploadStager(BinaryContentStorage binaryContentStorage,
+      PendingUploadRepository pendingUploadRepository, UuidStrategy uuidStrategy, boolean enabled,
+      Executor executor) {
+    this.binaryContentStorage = binaryContentStorage;
+    this.pendingUploadRepository = pendingUploadRepository;
+    this.uuidStrategy = uuidStrategy;
+    this.enabled = enabled;
+    this.executor = executor;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * @return 업로드한 key를 stagedId로 가진 요청 (비활성화 상태면 원래 요청)
+   */
+  public BinaryContentCreateRequest stage(BinaryContentCreateRequest request) {
+    return stageAll(List.of(request)).get(0);
+  }
+
+  /**
+   * 여러 파일을 동시에 업로드하고 모두 끝날 때까지 기다린다.
+   * <p>
+   * 하나라도 실패하면 이미 올라간 파일과 pending 항목을 모두 지우고 첫 번째 예외를 던진다. (전부 성공하거나 전부 실패)
+   *
+   * @return 요청과 같은 순서의 staged 요청 목록
+   */
+  public List<BinaryContentCreateRequest> stageAll(List<BinaryContentCreateRequest> requests) {
+    if (!enabled || requests.isEmpty()) {
+      return requests;
+    }
+    List<PendingUpload> pendingUploads = requests.stream()
+        .map(request -> new PendingUpload(uuidStrategy.generate()))
+        .toList();
+    pendingUploadRepository.saveAll(pendingUploads);
+
+    List<UUID> stagedIds = pendingUploads.stream().map(PendingUpload::getId).toList();
+    try {
+      putAll(stagedIds, requests);
+    } catch (RuntimeException e) {
+      discard(pendingUploads);
+      throw e;
+    }
+    log.debug("파일 업로드 완료(승격 대기): count={}", requests.size());
+    List<BinaryContentCreateRequest> staged = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      staged.add(requests.get(i).staged(stagedIds.get(i)));
+    }
+    return staged;
+  }
+
+  /**
+   * 스테이징을 끈 경우의 업로드. 이미 정해진 ID로 {@link #stageAll}과 같은 스레드 풀에서 동시에 업로드한다.
+   * <p>
+   * pending 항목을 남기지 않으므로 호출자의 트랜잭션 안에서 실행되며, 하나라도 실패하면 이미 올라간 파일을 지우고 첫 번째 예외를 던진다.
+   */
+  public void uploadAll(List<UUID> ids, List<BinaryContentCreateRequest> requests) {
+    if (requests.isEmpty()) {
+      return;
+    }
+    try {
+      putAll(ids, requests);
+    } catch (RuntimeException e) {
+      for (UUID id : ids) {
+        try {
+          binaryContentStorage.delete(id);
+        } catch (RuntimeException deleteFailure) {
+          log.warn("업로드 취소 중 파일 삭제 실패: id={}, message={}", id, deleteFailure.getMessage());
+        }
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 모든 업로드가 끝날 때까지 기다린다. 파일이 하나면 스레드 풀을 거치지 않고 요청 스레드에서 업로드한다.
+   */
+  private void putAll(List<UUID> ids, List<BinaryContentCreateRequest> requests) {
+    if (requests.size() == 1) {
+      upload(ids.get(0), requests.get(0));
+      return;
+    }
+    List<CompletableFuture<Void>> uploads = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      UUID id = ids.get(i);
+      BinaryContentCreateRequest request = requests.get(i);
+      uploads.add(CompletableFuture.runAsync(() -> upload(id, request), executor));
+    }
+    try {
+      CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  private void upload(UUID id, BinaryContentCreateRequest request) {
+    binaryContentStorage.put(id, request.content(), request.size());
+  }
+
+  /**
+   * 업로드한(또는 일부만 올라갔을 수 있는) 파일을 지우고 pending 항목을 삭제한다. 파일 삭제에 실패한 항목은 pending 항목을 남겨
+   * reconciler가 다시 지우게 한다.
+   */
+  private void discard(List<PendingUpload> pendingUploads) {
+    List<UUID> discarded = new ArrayList<>(pendingUploads.size());
+    for (PendingUpload pendingUpload : pendingUploads) {
+      UUID stagedId = pendingUpload.getId();
+      try {
+        binaryContentStorage.delete(stagedId);
+        discarded.add(stagedId);
+      } catch (RuntimeException e) {
+        log.warn("업로드 취소 중 파일 삭제 실패: stagedId={}, message={}", stagedId, e.getMessage());
+      }
+    }
+    pendingUploadRepository.deleteAllByIdInBatch(discarded);
+  }
+
+  private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+}
@@ -76,7 +76,7 @@ CREATE TABLE refresh_tokens
     user_id    uuid                     NOT NULL,
     expired_at timestamp with time zone,
     rotated    boolean                  NOT NULL DEFAULT false
-)
+);
 
 -- 제약 조건
 -- User (1) -> BinaryContent (1)
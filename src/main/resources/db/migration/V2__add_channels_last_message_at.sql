@@ -0,0 +1,12 @@
+-- Channel.lastMessageAt 비정규화 컬럼 추가
+ALTER TABLE channels
+    ADD COLUMN IF NOT EXISTS last_message_at timestamp with time zone;
+
+-- 기존 채널의 마지막 메시지 시간 채우기
+UPDATE channels c
+SET last_message_at = (SELECT MAX(m.created_at)
+                       FROM messages m
+                       WHERE m.channel_id = c.id)
+WHERE EXISTS (SELECT 1
+              FROM messages m
+              WHERE m.channel_id = c.id);
@@ -0,0 +1,17 @@
+-- 보조 인덱스
+-- Message: 채널별 메시지 페이지 조회, 마지막 메시지 시간 계산 (channel_id, created_at 순 정렬 + id로 동순위 구분)
+CREATE INDEX IF NOT EXISTS idx_messages_channel_id_created_at
+    ON messages (channel_id, created_at, id);
+
+-- ReadStatus: 사용자별 조회는 UNIQUE (user_id, channel_id) 인덱스를 사용
+-- 채널별 참여자 조회 (channel_id로 찾은 뒤 user_id까지 인덱스에서 읽음)
+CREATE INDEX IF NOT EXISTS idx_read_statuses_channel_id_user_id
+    ON read_statuses (channel_id, user_id);
+
+-- RefreshToken: 사용자별 조회/삭제
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id
+    ON refresh_tokens (user_id);
+
+-- MessageAttachment: 첨부파일 삭제 시 역방향 조회 (PK는 message_id가 선두 컬럼)
+CREATE INDEX IF NOT EXISTS idx_message_attachments_attachment_id
+    ON message_attachments (attachment_id);
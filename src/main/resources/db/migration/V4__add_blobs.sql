@@ -0,0 +1,22 @@
+-- 내용 기반(content-addressed) 저장: 같은 내용의 파일은 Blob 하나를 공유
+CREATE TABLE IF NOT EXISTS blobs
+(
+    id         uuid PRIMARY KEY,
+    digest     varchar(64)              NOT NULL UNIQUE,
+    size       bigint                   NOT NULL,
+    created_at timestamp with time zone NOT NULL
+);
+
+-- 기존 항목은 blob_id 없이 binary_contents ID를 저장소 key로 계속 사용
+ALTER TABLE binary_contents
+    ADD COLUMN IF NOT EXISTS blob_id uuid;
+
+-- 참조 중인 Blob은 삭제할 수 없음 (GC와 새 참조가 동시에 일어나는 경우 보호)
+ALTER TABLE binary_contents
+    ADD CONSTRAINT fk_binary_content_blob
+        FOREIGN KEY (blob_id)
+            REFERENCES blobs (id);
+
+-- Blob별 참조 여부 확인 (GC)
+CREATE INDEX IF NOT EXISTS idx_binary_contents_blob_id
+    ON binary_contents (blob_id);
@@ -0,0 +1,16 @@
+-- 이미지 축소본 (원본 BinaryContent 삭제 시 함께 삭제)
+CREATE TABLE IF NOT EXISTS binary_content_variants
+(
+    id                uuid PRIMARY KEY,
+    created_at        timestamp with time zone NOT NULL,
+    binary_content_id uuid                     NOT NULL,
+    width             integer                  NOT NULL,
+    size              bigint                   NOT NULL,
+    content_type      varchar(100)             NOT NULL,
+    CONSTRAINT uk_binary_content_variants_binary_content_id_width
+        UNIQUE (binary_content_id, width),
+    CONSTRAINT fk_binary_content_variant_binary_content
+        FOREIGN KEY (binary_content_id)
+            REFERENCES binary_contents (id)
+            ON DELETE CASCADE
+);
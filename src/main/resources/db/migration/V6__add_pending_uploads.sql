@@ -0,0 +1,9 @@
+-- 저장소에 먼저 업로드하고 아직 BinaryContent로 등록되지 않은 파일 (정리 대상 조회는 created_at 순)
+CREATE TABLE IF NOT EXISTS pending_uploads
+(
+    id         uuid PRIMARY KEY,
+    created_at timestamp with time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_pending_uploads_created_at
+    ON pending_uploads (created_at);
@@ -0,0 +1,35 @@
+-- RefreshToken: 원본 JWT 대신 SHA-256 digest(32바이트)로 저장하고, 재발급된 토큰끼리 family로 묶는다.
+-- 기존 토큰은 원본을 알 수 없어 해시로 옮길 수 없으므로 새로 만든다. (기존 사용자는 다시 로그인)
+DROP TABLE IF EXISTS refresh_tokens;
+
+CREATE TABLE refresh_tokens
+(
+    id         uuid PRIMARY KEY,
+    created_at timestamp with time zone NOT NULL,
+    token_hash bytea UNIQUE             NOT NULL,
+    family_id  uuid                     NOT NULL,
+    user_id    uuid                     NOT NULL,
+    expires_at timestamp with time zone NOT NULL,
+    rotated_at timestamp with time zone
+);
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT fk_refresh_token_user
+        FOREIGN KEY (user_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE;
+
+-- 로그아웃 시 사용자의 모든 토큰 삭제
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id
+    ON refresh_tokens (user_id);
+
+-- 재사용 감지 시 family 전체 삭제
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id
+    ON refresh_tokens (family_id);
+
+-- 만료/재발급된 토큰 정리
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at
+    ON refresh_tokens (expires_at);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_rotated_at
+    ON refresh_tokens (rotated_at);
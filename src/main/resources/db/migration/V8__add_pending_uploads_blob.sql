@@ -0,0 +1,13 @@
+-- 내용 기반 저장 모드에서 staged upload는 Blob ID를 key로 저장되므로, 승격 시 연결할 Blob을 기록
+ALTER TABLE pending_uploads
+    ADD COLUMN IF NOT EXISTS blob_id uuid;
+
+-- 승격 전인 Blob은 GC가 삭제할 수 없음
+ALTER TABLE pending_uploads
+    ADD CONSTRAINT fk_pending_upload_blob
+        FOREIGN KEY (blob_id)
+            REFERENCES blobs (id);
+
+-- Blob별 참조 여부 확인 (GC)
+CREATE INDEX IF NOT EXISTS idx_pending_uploads_blob_id
+    ON pending_uploads (blob_id);
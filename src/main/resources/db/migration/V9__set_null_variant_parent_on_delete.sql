@@ -0,0 +1,12 @@
+-- 원본이 삭제되면 축소본 행은 남기고 참조만 끊는다. (저장소의 축소본 파일을 정리 작업이 찾아 지울 수 있도록)
+ALTER TABLE binary_content_variants
+    DROP CONSTRAINT fk_binary_content_variant_binary_content;
+
+ALTER TABLE binary_content_variants
+    ALTER COLUMN binary_content_id DROP NOT NULL;
+
+ALTER TABLE binary_content_variants
+    ADD CONSTRAINT fk_binary_content_variant_binary_content
+        FOREIGN KEY (binary_content_id)
+            REFERENCES binary_contents (id)
+            ON DELETE SET NULL;
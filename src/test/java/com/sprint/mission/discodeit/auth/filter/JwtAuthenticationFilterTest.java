@@ -0,0 +1,81 @@
+package com.sprint.mission.discodeit.auth.filter;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.UserService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @MockitoBean
+  private UserService userService;
+
+  @MockitoBean
+  private UserRepository userRepository;
+
+  @Test
+  @DisplayName("유효한 Access Token으로 인증된 요청은 DB 조회 없이 인증된다")
+  void bearerToken_Success() throws Exception {
+    // Given
+    UUID userId = UUID.randomUUID();
+    String accessToken = jwtTokenProvider.generateAccessToken(Map.of(
+        "userId", userId,
+        "username", "testuser",
+        "roles", List.of("ROLE_USER")
+    ));
+    UserDto userDto = new UserDto(userId, "testuser", "test@example.com", null, true, Role.USER);
+    given(userService.find(userId)).willReturn(userDto);
+
+    // When & Then - 같은 토큰으로 두 번 요청 (두 번째는 캐시된 claims 사용)
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(get("/api/auth/me")
+              .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.id").value(userId.toString()));
+    }
+    verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  @DisplayName("유효하지 않은 Access Token은 인증되지 않는다")
+  void bearerToken_Invalid() throws Exception {
+    mockMvc.perform(get("/api/auth/me")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer invalid.token.value"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @DisplayName("Authorization 헤더가 없으면 인증되지 않는다")
+  void bearerToken_Missing() throws Exception {
+    mockMvc.perform(get("/api/auth/me"))
+        .andExpect(status().isForbidden());
+  }
+}
@@ -0,0 +1,77 @@
+package com.sprint.mission.discodeit.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtKeyRingTest {
+
+  private static final String SECRET_V1 = "secretkey-v1-secretkey-v1-secretkey-v1-secretkey-v1";
+  private static final String SECRET_V2 = "secretkey-v2-secretkey-v2-secretkey-v2-secretkey-v2";
+
+  private Instant now;
+  private JwtKeyRing keyRing;
+
+  @BeforeEach
+  void setUp() {
+    now = Instant.parse("2025-01-01T00:00:00Z");
+    keyRing = new JwtKeyRing("v1", SECRET_V1, Duration.ofMinutes(10),
+        Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("활성 키의 signer/verifier는 매 호출마다 같은 인스턴스를 재사용한다")
+  void activeKey_ReusesInstances() {
+    // when
+    JwtKeyRing.SigningKey first = keyRing.activeKey();
+    JwtKeyRing.SigningKey second = keyRing.activeKey();
+
+    // then
+    assertThat(first.keyId()).isEqualTo("v1");
+    assertThat(first.signer()).isSameAs(second.signer());
+    assertThat(keyRing.verifier("v1")).containsSame(first.verifier());
+    assertThat(keyRing.verifier(null)).containsSame(first.verifier());
+  }
+
+  @Test
+  @DisplayName("키 교체 후 새 키로 서명하고, 이전 키는 유예 기간 동안만 검증에 사용된다")
+  void rotate_KeepsPreviousKeyUntilGracePeriodEnds() {
+    // given
+    JwtKeyRing.SigningKey previous = keyRing.activeKey();
+
+    // when
+    keyRing.rotate("v2", SECRET_V2);
+
+    // then
+    assertThat(keyRing.activeKey().keyId()).isEqualTo("v2");
+    assertThat(keyRing.verifier("v1")).containsSame(previous.verifier());
+    assertThat(keyRing.verifier("v2")).isPresent();
+
+    // 유예 기간 종료 후 이전 키는 더 이상 검증에 사용되지 않음
+    ReflectionTestUtils.setField(keyRing, "clock",
+        Clock.fixed(now.plus(Duration.ofMinutes(10)), ZoneOffset.UTC));
+    assertThat(keyRing.verifier("v1")).isEmpty();
+    assertThat(keyRing.verifier("v2")).isPresent();
+  }
+
+  @Test
+  @DisplayName("알 수 없는 kid는 검증기를 반환하지 않는다")
+  void verifier_UnknownKeyId_ReturnsEmpty() {
+    assertThat(keyRing.verifier("unknown")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("현재 활성 키와 같은 kid로는 교체할 수 없다")
+  void rotate_SameKeyId_ThrowsException() {
+    assertThatThrownBy(() -> keyRing.rotate("v1", SECRET_V2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,136 @@
+package com.sprint.mission.discodeit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DtoCacheTest {
+
+  private static final String NAME = "test";
+
+  private MeterRegistry meterRegistry;
+  private InMemorySharedCacheTier sharedTier;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sharedTier = new InMemorySharedCacheTier();
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("같은 key를 동시에 조회해도 한 번만 로딩한다")
+  void get_ConcurrentMisses_LoadsOnce() throws Exception {
+    // given
+    DtoCache<String, String> cache = cache(null);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<String>> results = new ArrayList<>();
+    try {
+      results.add(executor.submit(() -> cache.get("key", key -> {
+        loading.countDown();
+        await(release);
+        return load(key);
+      })));
+      loading.await(5, TimeUnit.SECONDS);
+      for (int i = 0; i < 7; i++) {
+        results.add(executor.submit(() -> cache.get("key", this::load)));
+      }
+      release.countDown();
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value-key");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("1단계에서 못 찾으면 2단계 캐시 값을 쓰고 DB는 조회하지 않는다")
+  void get_SharedTierHit_SkipsLoader() {
+    // given
+    sharedTier.put(NAME, "key", "shared", Duration.ofMinutes(1));
+    DtoCache<String, String> cache = cache(sharedTier);
+
+    // when
+    String result = cache.get("key", this::load);
+
+    // then
+    assertThat(result).isEqualTo("shared");
+    assertThat(loads).hasValue(0);
+    assertThat(meterRegistry.get("cache.shared.gets").tag("result", "hit").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("로딩한 값은 2단계 캐시에도 저장하고, evict하면 두 단계 모두에서 지운다")
+  void evict_RemovesFromBothTiers() {
+    // given
+    DtoCache<String, String> cache = cache(sharedTier);
+    cache.get("key", this::load);
+    assertThat(sharedTier.get(NAME, "key")).contains("value-key");
+
+    // when
+    cache.evict("key");
+    cache.get("key", this::load);
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("1단계 캐시 적중/실패 수를 지표로 기록한다")
+  void get_RecordsMetrics() {
+    // given
+    DtoCache<String, String> cache = cache(null);
+
+    // when
+    cache.get("key", this::load);
+    cache.get("key", this::load);
+    cache.get("key", this::load);
+
+    // then
+    assertThat(meterRegistry.get("cache.gets").tag("cache", NAME).tag("result", "hit")
+        .functionCounter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", NAME).tag("result", "miss")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  private DtoCache<String, String> cache(SharedCacheTier tier) {
+    return new DtoCache<>(NAME, String.class, meterRegistry, 100, Duration.ofMinutes(1), tier,
+        Duration.ofMinutes(10));
+  }
+
+  private String load(String key) {
+    loads.incrementAndGet();
+    return "value-" + key;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
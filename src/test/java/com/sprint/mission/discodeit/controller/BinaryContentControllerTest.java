@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -135,6 +136,33 @@ class BinaryContentControllerTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  @DisplayName("크기를 지정하면 축소본을 다운로드한다")
+  void download_WithSize_DownloadsVariant() throws Exception {
+    // Given
+    UUID binaryContentId = UUID.randomUUID();
+    BinaryContentDto variant = new BinaryContentDto(
+        UUID.randomUUID(),
+        "test.jpg",
+        1200L,
+        MediaType.IMAGE_JPEG_VALUE
+    );
+
+    given(binaryContentService.findForDownload(binaryContentId, 40)).willReturn(variant);
+
+    ResponseEntity<ByteArrayResource> mockResponse = ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_JPEG_VALUE)
+        .body(new ByteArrayResource("thumbnail".getBytes()));
+
+    doReturn(mockResponse).when(binaryContentStorage).download(variant);
+
+    // When & Then
+    mockMvc.perform(get("/api/binaryContents/{binaryContentId}/download", binaryContentId)
+            .param("size", "40"))
+        .andExpect(status().isOk())
+        .andExpect(content().bytes("thumbnail".getBytes()));
+  }
+
   @Test
   @DisplayName("바이너리 컨텐츠 다운로드 실패 테스트 - 존재하지 않는 컨텐츠")
   void download_Failure_BinaryContentNotFound() throws Exception {
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -15,6 +16,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
@@ -23,10 +25,12 @@ import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.storage.staging.UploadStager;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +39,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -53,6 +58,16 @@ class MessageControllerTest {
   @MockitoBean
   private MessageService messageService;
 
+  @MockitoBean
+  private UploadStager uploadStager;
+
+  @BeforeEach
+  void setUp() {
+    // 업로드 스테이징은 요청을 그대로 전달
+    given(uploadStager.stageAll(anyList()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+  }
+
   @Test
   @DisplayName("메시지 생성 성공 테스트")
   void createMessage_Success() throws Exception {
@@ -295,13 +310,15 @@ class MessageControllerTest {
         (long) messages.size() // totalElements
     );
 
-    given(messageService.findAllByChannelId(eq(channelId), eq(cursor), any(Pageable.class)))
+    String encodedCursor = new MessageCursor(cursor, UUID.randomUUID()).encode();
+    given(messageService.findAllByChannelId(eq(channelId), eq(encodedCursor), eq(Direction.DESC),
+        any(Pageable.class)))
         .willReturn(pageResponse);
 
     // When & Then
     mockMvc.perform(get("/api/messages")
             .param("channelId", channelId.toString())
-            .param("cursor", cursor.toString())
+            .param("cursor", encodedCursor)
             .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.content").isArray())
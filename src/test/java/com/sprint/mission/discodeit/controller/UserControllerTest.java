@@ -15,14 +15,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.service.UserService;
+import com.sprint.mission.discodeit.storage.staging.UploadStager;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +49,16 @@ class UserControllerTest {
   @MockitoBean
   private UserService userService;
 
+  @MockitoBean
+  private UploadStager uploadStager;
+
+  @BeforeEach
+  void setUp() {
+    // 업로드 스테이징은 요청을 그대로 전달
+    given(uploadStager.stage(any(BinaryContentCreateRequest.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
+  }
+
 
   @Test
   @DisplayName("사용자 생성 성공 테스트")
@@ -0,0 +1,70 @@
+package com.sprint.mission.discodeit.entity.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
+import com.sprint.mission.discodeit.config.UuidStrategyConfig;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * ID 생성 방식 설정 슬라이스 테스트 (기본값 v7 대신 v4로 설정)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.discodeit.id.uuid-strategy=v4")
+@EnableJpaAuditing
+@Import({SecondLevelCacheConfig.class, UuidStrategyConfig.class})
+@ActiveProfiles("test")
+class AssignableUuidGeneratorTest {
+
+  @Autowired
+  private ChannelRepository channelRepository;
+
+  @Autowired
+  private BinaryContentRepository binaryContentRepository;
+
+  @Autowired
+  private UuidStrategy uuidStrategy;
+
+  @Test
+  @DisplayName("설정한 방식으로 ID를 생성한다")
+  void generate_UsesConfiguredStrategy() {
+    // when
+    Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "channel", null));
+
+    // then
+    assertThat(channel.getId().version()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("엔티티 밖에서 쓰는 UuidStrategy 빈도 같은 설정을 따른다")
+  void uuidStrategyBean_MatchesConfiguredStrategy() {
+    // then
+    assertThat(uuidStrategy).isEqualTo(UuidStrategy.V4);
+    assertThat(uuidStrategy.generate().version()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("미리 지정한 ID는 설정과 관계없이 그대로 저장한다")
+  void generate_KeepsAssignedId() {
+    // given
+    UUID assignedId = UuidV7.generate();
+
+    // when
+    BinaryContent binaryContent = binaryContentRepository.save(
+        new BinaryContent(assignedId, "a.txt", 1L, "text/plain"));
+
+    // then
+    assertThat(binaryContent.getId()).isEqualTo(assignedId);
+  }
+}
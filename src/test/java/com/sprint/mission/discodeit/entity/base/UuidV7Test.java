@@ -0,0 +1,53 @@
+package com.sprint.mission.discodeit.entity.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+  @Test
+  @DisplayName("version 7, variant 2 형식이며 상위 48비트는 현재 시각(ms)이다")
+  void generate_HasVersion7Layout() {
+    // given
+    long before = System.currentTimeMillis();
+
+    // when
+    UUID uuid = UuidV7.generate();
+
+    // then
+    long timestamp = uuid.getMostSignificantBits() >>> 16;
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1);
+  }
+
+  @Test
+  @DisplayName("같은 밀리초에 연속으로 만들어도 항상 증가한다")
+  void generate_IsMonotonic() {
+    // when
+    List<UUID> uuids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      uuids.add(UuidV7.generate());
+    }
+
+    // then - PostgreSQL uuid 비교와 같은 부호 없는 바이트 순서
+    for (int i = 1; i < uuids.size(); i++) {
+      assertThat(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(),
+          uuids.get(i).getMostSignificantBits())).isNegative();
+    }
+  }
+
+  @Test
+  @DisplayName("설정 값으로 ID 생성 방식을 선택하고, 값이 없으면 v7을 사용한다")
+  void uuidStrategy_FromSetting() {
+    // when & then
+    assertThat(UuidStrategy.from("v4").generate().version()).isEqualTo(4);
+    assertThat(UuidStrategy.from("V7").generate().version()).isEqualTo(7);
+    assertThat(UuidStrategy.from(null)).isEqualTo(UuidStrategy.V7);
+  }
+}
@@ -0,0 +1,178 @@
+package com.sprint.mission.discodeit.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContentVariant;
+import com.sprint.mission.discodeit.repository.BinaryContentVariantRepository;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/*
+ * 업로드 커밋 이후 축소본이 비동기로 생성되고, 크기 지정 다운로드가 축소본을 내려주는지 검증
+ * */
+@SpringBootTest(properties = "discodeit.image.variant.widths=64,256")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ImageVariantPipelineTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private BinaryContentService binaryContentService;
+
+  @Autowired
+  private BinaryContentVariantRepository binaryContentVariantRepository;
+
+  @Autowired
+  private OrphanVariantCollector orphanVariantCollector;
+
+  @Autowired
+  @Qualifier(BinaryContentStorage.BACKEND)
+  private BinaryContentStorage variantStorage;
+
+  @Test
+  @DisplayName("이미지 업로드 후 원본보다 작은 크기의 축소본이 비율을 유지해 생성된다")
+  void create_Image_GeneratesVariants() throws Exception {
+    // given
+    byte[] png = png(800, 600);
+
+    // when
+    BinaryContentDto original = binaryContentService.create(
+        BinaryContentCreateRequest.of("photo.png", "image/png", png));
+
+    // then
+    List<BinaryContentVariant> variants = awaitVariants(original.id(), 2);
+    assertThat(variants).extracting(BinaryContentVariant::getWidth)
+        .containsExactlyInAnyOrder(64, 256);
+    assertThat(variants).allSatisfy(variant -> {
+      assertThat(variant.getContentType()).isEqualTo("image/png");
+      assertThat(variant.getSize()).isLessThan(png.length);
+    });
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("크기를 지정한 다운로드는 그 크기 이상인 가장 작은 축소본을 내려준다")
+  void download_WithSize_ServesVariant() throws Exception {
+    // given
+    BinaryContentDto original = binaryContentService.create(
+        BinaryContentCreateRequest.of("avatar.jpg", "image/jpeg", jpeg(1024, 1024)));
+    awaitVariants(original.id(), 2);
+
+    // when
+    byte[] body = mockMvc.perform(get("/api/binaryContents/{id}/download", original.id())
+            .param("size", "40"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "image/jpeg"))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // then
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(body));
+    assertThat(image.getWidth()).isEqualTo(64);
+    assertThat(image.getHeight()).isEqualTo(64);
+  }
+
+  @Test
+  @DisplayName("원본보다 큰 축소본과 이미지가 아닌 파일의 축소본은 만들지 않는다")
+  void create_SmallImageOrNonImage_SkipsVariants() throws Exception {
+    // when
+    BinaryContentDto small = binaryContentService.create(
+        BinaryContentCreateRequest.of("icon.png", "image/png", png(100, 50)));
+    BinaryContentDto text = binaryContentService.create(
+        BinaryContentCreateRequest.of("note.txt", "text/plain", "hello".getBytes()));
+
+    // then
+    assertThat(awaitVariants(small.id(), 1)).extracting(BinaryContentVariant::getWidth)
+        .containsExactly(64);
+    assertThat(binaryContentVariantRepository.findAllByBinaryContentId(text.id())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("원본이 삭제되면 축소본 행과 저장소의 파일이 정리된다")
+  void collect_DeletedOriginal_RemovesVariantFiles() throws Exception {
+    // given
+    BinaryContentDto original = binaryContentService.create(
+        BinaryContentCreateRequest.of("removed.png", "image/png", png(800, 600)));
+    List<UUID> variantIds = awaitVariants(original.id(), 2).stream()
+        .map(BinaryContentVariant::getId)
+        .toList();
+
+    // when
+    binaryContentService.delete(original.id());
+    int collected = orphanVariantCollector.collect();
+
+    // then
+    assertThat(collected).isGreaterThanOrEqualTo(2);
+    assertThat(binaryContentVariantRepository.findAllById(variantIds)).isEmpty();
+    variantIds.forEach(variantId -> assertThatThrownBy(() -> variantStorage.get(variantId))
+        .isInstanceOf(NoSuchElementException.class));
+  }
+
+  private List<BinaryContentVariant> awaitVariants(UUID binaryContentId, int count)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    List<BinaryContentVariant> variants;
+    do {
+      variants = binaryContentVariantRepository.findAllByBinaryContentId(binaryContentId);
+      if (variants.size() >= count) {
+        return variants;
+      }
+      Thread.sleep(20);
+    } while (System.nanoTime() < deadline);
+    return variants;
+  }
+
+  private static byte[] png(int width, int height) throws IOException {
+    return encode(image(width, height, BufferedImage.TYPE_INT_ARGB), "png");
+  }
+
+  private static byte[] jpeg(int width, int height) throws IOException {
+    return encode(image(width, height, BufferedImage.TYPE_INT_RGB), "jpg");
+  }
+
+  private static BufferedImage image(int width, int height, int type) {
+    BufferedImage image = new BufferedImage(width, height, type);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.ORANGE);
+    graphics.fillRect(0, 0, width, height);
+    graphics.setColor(Color.BLUE);
+    graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+    graphics.dispose();
+    return image;
+  }
+
+  private static byte[] encode(BufferedImage image, String format) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, format, outputStream);
+    return outputStream.toByteArray();
+  }
+}
@@ -1,14 +1,20 @@
 package com.sprint.mission.discodeit.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
 import com.sprint.mission.discodeit.dto.request.LoginRequest;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.PresenceRegistry;
 import com.sprint.mission.discodeit.service.UserService;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +24,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.annotation.DirtiesContext;
@@ -38,6 +47,18 @@ class AuthApiIntegrationTest {
   @Autowired
   private UserService userService;
 
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private PresenceRegistry presenceRegistry;
+
   @Test
   @DisplayName("로그인 API 통합 테스트 - 성공")
   void login_Success() throws Exception {
@@ -66,9 +87,61 @@ class AuthApiIntegrationTest {
                 "password", List.of(loginRequest.password())
             ))))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.id", notNullValue()))
-        .andExpect(jsonPath("$.username", is("loginuser")))
-        .andExpect(jsonPath("$.email", is("login@example.com")));
+        .andExpect(jsonPath("$.userDto.id", notNullValue()))
+        .andExpect(jsonPath("$.userDto.username", is("loginuser")))
+        .andExpect(jsonPath("$.userDto.email", is("login@example.com")));
+  }
+
+  @Test
+  @DisplayName("로그인 API 통합 테스트 - 설정보다 낮은 cost의 비밀번호 해시는 로그인 시 다시 저장된다")
+  void login_UpgradesWeakPasswordHash() throws Exception {
+    // Given
+    String weakHash = new BCryptPasswordEncoder(4).encode("Password1!");
+    userRepository.save(new User("legacyuser", "legacy@example.com", weakHash, null));
+
+    // When
+    mockMvc.perform(post("/api/auth/login")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+            .formFields(MultiValueMap.fromMultiValue(Map.of(
+                "username", List.of("legacyuser"),
+                "password", List.of("Password1!")
+            ))))
+        .andExpect(status().isOk());
+
+    // Then
+    assertThat(userRepository.findByUsername("legacyuser"))
+        .hasValueSatisfying(user -> {
+          assertThat(user.getPassword()).startsWith("$2a$10$");
+          assertThat(passwordEncoder.matches("Password1!", user.getPassword())).isTrue();
+        });
+  }
+
+  @Test
+  @DisplayName("로그아웃 API 통합 테스트 - 로그아웃 직후 오프라인으로 표시된다")
+  void logout_MarksOffline() throws Exception {
+    // Given
+    User user = userRepository.save(
+        new User("logoutuser", "logout@example.com", "password", null));
+    String accessToken = jwtTokenProvider.generateAccessToken(Map.of(
+        "userId", user.getId(),
+        "username", user.getUsername(),
+        "roles", List.of("ROLE_" + user.getRole().name())
+    ));
+    mockMvc.perform(get("/api/users")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+        .andExpect(status().isOk());
+    assertThat(presenceRegistry.isOnline(user.getId())).isTrue();
+
+    // When
+    mockMvc.perform(post("/api/auth/logout")
+            .with(csrf())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+        .andExpect(status().isNoContent());
+
+    // Then
+    assertThat(presenceRegistry.isOnline(user.getId())).isFalse();
+    assertThat(userService.find(user.getId()).online()).isFalse();
   }
 
   @Test
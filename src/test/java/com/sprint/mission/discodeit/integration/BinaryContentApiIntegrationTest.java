@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
@@ -90,7 +91,7 @@ class BinaryContentApiIntegrationTest {
     );
 
     byte[] fileContent = "테스트 파일 내용입니다.".getBytes();
-    BinaryContentCreateRequest attachmentRequest = new BinaryContentCreateRequest(
+    BinaryContentCreateRequest attachmentRequest = BinaryContentCreateRequest.of(
         "test.txt",
         MediaType.TEXT_PLAIN_VALUE,
         fileContent
@@ -146,14 +147,14 @@ class BinaryContentApiIntegrationTest {
     );
 
     // 첫 번째 첨부파일
-    BinaryContentCreateRequest attachmentRequest1 = new BinaryContentCreateRequest(
+    BinaryContentCreateRequest attachmentRequest1 = BinaryContentCreateRequest.of(
         "test1.txt",
         MediaType.TEXT_PLAIN_VALUE,
         "첫 번째 테스트 파일 내용입니다.".getBytes()
     );
 
     // 두 번째 첨부파일
-    BinaryContentCreateRequest attachmentRequest2 = new BinaryContentCreateRequest(
+    BinaryContentCreateRequest attachmentRequest2 = BinaryContentCreateRequest.of(
         "test2.txt",
         MediaType.TEXT_PLAIN_VALUE,
         "두 번째 테스트 파일 내용입니다.".getBytes()
@@ -184,7 +185,7 @@ class BinaryContentApiIntegrationTest {
   void downloadBinaryContent_Success() throws Exception {
     // Given
     String fileContent = "다운로드 테스트 파일 내용입니다.";
-    BinaryContentCreateRequest createRequest = new BinaryContentCreateRequest(
+    BinaryContentCreateRequest createRequest = BinaryContentCreateRequest.of(
         "download-test.txt",
         MediaType.TEXT_PLAIN_VALUE,
         fileContent.getBytes()
@@ -202,6 +203,55 @@ class BinaryContentApiIntegrationTest {
         .andExpect(content().bytes(fileContent.getBytes()));
   }
 
+  @Test
+  @WithMockUser(roles = "USER")
+  @DisplayName("바이너리 컨텐츠 다운로드 API 통합 테스트 - Range 요청은 206으로 일부만 응답")
+  void downloadBinaryContent_Range_PartialContent() throws Exception {
+    // Given
+    byte[] fileContent = "0123456789".getBytes();
+    BinaryContentDto binaryContent = binaryContentService.create(
+        BinaryContentCreateRequest.of("range.txt", MediaType.TEXT_PLAIN_VALUE, fileContent));
+
+    // When & Then
+    mockMvc.perform(get("/api/binaryContents/{binaryContentId}/download", binaryContent.id())
+            .header(HttpHeaders.RANGE, "bytes=2-5"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+        .andExpect(content().bytes("2345".getBytes()));
+  }
+
+  @Test
+  @WithMockUser(roles = "USER")
+  @DisplayName("바이너리 컨텐츠 다운로드 API 통합 테스트 - ETag/Last-Modified가 일치하면 304")
+  void downloadBinaryContent_Conditional_NotModified() throws Exception {
+    // Given
+    BinaryContentDto binaryContent = binaryContentService.create(
+        BinaryContentCreateRequest.of("cache.txt", MediaType.TEXT_PLAIN_VALUE,
+            "cached".getBytes()));
+    String eTag = "\"" + binaryContent.id() + "\"";
+
+    String lastModified = mockMvc.perform(
+            get("/api/binaryContents/{binaryContentId}/download", binaryContent.id()))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+        .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+    // When & Then
+    mockMvc.perform(get("/api/binaryContents/{binaryContentId}/download", binaryContent.id())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().bytes(new byte[0]));
+    mockMvc.perform(get("/api/binaryContents/{binaryContentId}/download", binaryContent.id())
+            .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+        .andExpect(status().isNotModified());
+    mockMvc.perform(get("/api/binaryContents/{binaryContentId}/download", binaryContent.id())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+        .andExpect(status().isOk())
+        .andExpect(content().bytes("cached".getBytes()));
+  }
+
   @Test
   @WithMockUser(roles = "USER")
   @DisplayName("존재하지 않는 바이너리 컨텐츠 다운로드 API 통합 테스트")
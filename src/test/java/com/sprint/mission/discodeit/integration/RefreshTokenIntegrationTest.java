@@ -0,0 +1,163 @@
+package com.sprint.mission.discodeit.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.auth.jwt.RefreshTokenSweeper;
+import com.sprint.mission.discodeit.entity.RefreshToken;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.user.InvalidRefreshTokenException;
+import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.basic.RefreshTokenService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Refresh Token 저장소 통합 테스트 (재사용 감지 시 커밋되는 삭제를 확인하므로 테스트 트랜잭션을 사용하지 않는다)
+ */
+@SpringBootTest(properties = "discodeit.security.refresh-token.sweep-batch-size=2")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RefreshTokenIntegrationTest {
+
+  @Autowired
+  private RefreshTokenService refreshTokenService;
+
+  @Autowired
+  private RefreshTokenSweeper refreshTokenSweeper;
+
+  @Autowired
+  private RefreshTokenRepository refreshTokenRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(new User("tokenuser" + System.nanoTime(),
+        "token" + System.nanoTime() + "@example.com", "password", null));
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+  }
+
+  @Test
+  @DisplayName("발급한 토큰은 원본 대신 SHA-256 digest로 저장된다")
+  void issue_StoresDigestOnly() {
+    // when
+    String token = refreshTokenService.issue(user.getId());
+
+    // then
+    assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(token)))
+        .hasValueSatisfying(stored -> {
+          assertThat(stored.getTokenHash()).hasSize(RefreshToken.TOKEN_HASH_LENGTH);
+          assertThat(stored.getRotatedAt()).isNull();
+          assertThat(stored.getExpiresAt()).isAfter(Instant.now());
+        });
+  }
+
+  @Test
+  @DisplayName("재발급은 두 문장으로 기존 토큰을 표시하고 같은 family의 새 토큰을 저장한다")
+  void rotate_TwoStatements_KeepsFamily() {
+    // given
+    String token = refreshTokenService.issue(user.getId());
+    statistics.clear();
+
+    // when
+    String rotated = refreshTokenService.rotate(token);
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    RefreshToken previous = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(token))
+        .orElseThrow();
+    RefreshToken successor = refreshTokenRepository.findByTokenHash(
+        RefreshTokenService.hash(rotated)).orElseThrow();
+    assertThat(previous.getRotatedAt()).isNotNull();
+    assertThat(successor.getRotatedAt()).isNull();
+    assertThat(successor.getFamilyId()).isEqualTo(previous.getFamilyId());
+    assertThat(successor.getUser().getId()).isEqualTo(user.getId());
+  }
+
+  @Test
+  @DisplayName("이미 재발급된 토큰을 다시 사용하면 같은 family의 토큰이 모두 폐기된다")
+  void rotate_ReusedToken_RevokesFamily() {
+    // given
+    String token = refreshTokenService.issue(user.getId());
+    String rotated = refreshTokenService.rotate(token);
+    String otherSession = refreshTokenService.issue(user.getId());
+
+    // when & then
+    assertThatThrownBy(() -> refreshTokenService.rotate(token))
+        .isInstanceOfSatisfying(InvalidRefreshTokenException.class,
+            e -> assertThat(e.getDetails()).containsEntry("reused", true));
+    assertThatThrownBy(() -> refreshTokenService.rotate(rotated))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+    assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(otherSession)))
+        .isPresent();
+  }
+
+  @Test
+  @DisplayName("서명이 올바르지 않은 토큰은 DB를 조회하지 않고 거절한다")
+  void rotate_InvalidSignature_SkipsDatabase() {
+    // given
+    String token = refreshTokenService.issue(user.getId());
+    String tampered = token.substring(0, token.length() - 2) + "xx";
+    statistics.clear();
+
+    // when & then
+    assertThatThrownBy(() -> refreshTokenService.rotate(tampered))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("만료된 토큰과 retention이 지난 재발급 토큰을 batch 단위로 삭제한다")
+  void sweep_DeletesExpiredAndRotatedInBatches() {
+    // given
+    Instant now = Instant.now();
+    RefreshToken expired1 = save(now.minusSeconds(60), null);
+    RefreshToken expired2 = save(now.minusSeconds(60), null);
+    RefreshToken oldRotated = save(now.plus(Duration.ofHours(1)), now.minus(Duration.ofDays(2)));
+    RefreshToken recentlyRotated = save(now.plus(Duration.ofHours(1)), now.minusSeconds(60));
+    RefreshToken active = save(now.plus(Duration.ofHours(1)), null);
+
+    // when
+    int removed = refreshTokenSweeper.sweep();
+
+    // then
+    assertThat(removed).isGreaterThanOrEqualTo(3);
+    assertThat(refreshTokenRepository.existsById(expired1.getId())).isFalse();
+    assertThat(refreshTokenRepository.existsById(expired2.getId())).isFalse();
+    assertThat(refreshTokenRepository.existsById(oldRotated.getId())).isFalse();
+    assertThat(refreshTokenRepository.existsById(recentlyRotated.getId())).isTrue();
+    assertThat(refreshTokenRepository.existsById(active.getId())).isTrue();
+  }
+
+  private RefreshToken save(Instant expiresAt, Instant rotatedAt) {
+    return refreshTokenRepository.save(RefreshToken.builder()
+        .tokenHash(RefreshTokenService.hash(UUID.randomUUID().toString()))
+        .familyId(UUID.randomUUID())
+        .user(user)
+        .expiresAt(expiresAt)
+        .rotatedAt(rotatedAt)
+        .build());
+  }
+}
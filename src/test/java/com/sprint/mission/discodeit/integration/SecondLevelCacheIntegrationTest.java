@@ -0,0 +1,117 @@
+package com.sprint.mission.discodeit.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.MessageService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Hibernate 2차 캐시 통합 테스트 (캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션을 사용하지 않는다)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SecondLevelCacheIntegrationTest {
+
+  @Autowired
+  private MessageService messageService;
+
+  @Autowired
+  private ChannelRepository channelRepository;
+
+  @Autowired
+  private MessageRepository messageRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Channel channel;
+  private User author;
+
+  @BeforeEach
+  void setUp() {
+    channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "캐시채널", null));
+    author = userRepository.save(new User("cacheuser" + System.nanoTime(),
+        "cache" + System.nanoTime() + "@example.com", "password", null));
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("메시지 생성 시 채널과 작성자는 DB 대신 2차 캐시에서 조회한다")
+  void createMessage_LoadsChannelAndAuthorFromCache() {
+    // given
+    Channel otherChannel = channelRepository.save(new Channel(ChannelType.PUBLIC, "다른채널", null));
+    statistics.clear();
+
+    // when
+    messageService.create(new MessageCreateRequest("첫 메시지", channel.getId(), author.getId()),
+        List.of());
+    messageService.create(
+        new MessageCreateRequest("두 번째 메시지", otherChannel.getId(), author.getId()), List.of());
+
+    // then - 첫 메시지의 lastMessageAt 갱신이 다른 채널의 캐시 항목까지 지우지 않는다
+    assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.CHANNEL_REGION)
+        .getHitCount()).isEqualTo(2);
+    assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USER_REGION)
+        .getHitCount()).isEqualTo(2);
+    assertThat(statistics.getEntityStatistics(Channel.class.getName()).getLoadCount()).isZero();
+    assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("메시지 생성으로 갱신된 채널의 마지막 메시지 시간은 캐시에 이전 값으로 남지 않는다")
+  void createMessage_DoesNotLeaveStaleChannelInCache() {
+    // given - 채널을 캐시에 올려 둔다
+    channelRepository.findById(channel.getId());
+
+    // when
+    MessageDto message = messageService.create(
+        new MessageCreateRequest("메시지", channel.getId(), author.getId()), List.of());
+
+    // then - DB가 마이크로초로 반올림해 저장하므로 저장된 메시지의 생성 시간과 비교한다
+    Instant storedCreatedAt = messageRepository.findById(message.id()).orElseThrow()
+        .getCreatedAt();
+    assertThat(channelRepository.findById(channel.getId()))
+        .hasValueSatisfying(found -> assertThat(found.getLastMessageAt())
+            .isEqualTo(storedCreatedAt));
+  }
+
+  @Test
+  @DisplayName("로그인 시 사용자명 조회는 query cache를 사용한다")
+  void findByUsername_UsesQueryCache() {
+    // when
+    userRepository.findByUsername(author.getUsername());
+    userRepository.findByUsername(author.getUsername());
+
+    // then
+    assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+}
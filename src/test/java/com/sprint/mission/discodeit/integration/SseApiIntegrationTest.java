@@ -0,0 +1,108 @@
+package com.sprint.mission.discodeit.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.auth.jwt.JwtTokenProvider;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.UserService;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/*
+ * 이벤트는 트랜잭션 커밋 이후에 발행되므로 테스트 트랜잭션(@Transactional)을 사용하지 않는다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SseApiIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private MessageService messageService;
+
+  @Autowired
+  private ChannelRepository channelRepository;
+
+  @Test
+  @DisplayName("구독한 채널에 메시지가 생성되면 SSE로 전달된다")
+  void subscribe_ReceivesMessageCreatedEvent() throws Exception {
+    // Given
+    UserDto user = userService.create(
+        new UserCreateRequest("sseuser", "sse@example.com", "Password1!"), Optional.empty());
+    Channel channel = channelRepository.save(
+        new Channel(ChannelType.PUBLIC, "sse 채널", "sse 채널 설명"));
+    String accessToken = jwtTokenProvider.generateAccessToken(Map.of(
+        "userId", user.id(),
+        "username", user.username(),
+        "roles", List.of("ROLE_USER")
+    ));
+
+    MvcResult result = mockMvc.perform(get("/api/sse")
+            .param("channelIds", channel.getId().toString())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+        .andExpect(status().isOk())
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // When
+    MessageDto message = messageService.create(
+        new MessageCreateRequest("실시간 메시지", channel.getId(), user.id()), List.of());
+
+    // Then
+    String body = awaitBody(result.getResponse(), "실시간 메시지");
+    assertThat(body)
+        .contains("id:" + message.id())
+        .contains("event:message.created");
+  }
+
+  @Test
+  @DisplayName("인증되지 않은 SSE 구독 요청은 거부된다")
+  void subscribe_Unauthenticated_Forbidden() throws Exception {
+    mockMvc.perform(get("/api/sse"))
+        .andExpect(status().isForbidden());
+  }
+
+  private String awaitBody(MockHttpServletResponse response, String expected)
+      throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    String body = response.getContentAsString(StandardCharsets.UTF_8);
+    while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      body = response.getContentAsString(StandardCharsets.UTF_8);
+    }
+    assertThat(body).contains(expected);
+    return body;
+  }
+}
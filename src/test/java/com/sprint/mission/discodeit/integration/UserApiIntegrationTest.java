@@ -116,6 +116,50 @@ class UserApiIntegrationTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  @WithMockUser(roles = "USER")
+  @DisplayName("사용자 생성 실패 API 통합 테스트 - 이미 존재하는 이메일")
+  void createUser_Failure_DuplicateEmail() throws Exception {
+    // Given
+    userService.create(new UserCreateRequest("existinguser", "dup@example.com", "Password1!"),
+        Optional.empty());
+    UserCreateRequest createRequest = new UserCreateRequest(
+        "newuser",
+        "dup@example.com",
+        "Password1!"
+    );
+
+    // When & Then
+    mockMvc.perform(multipart("/api/users")
+            .file(userCreateRequestPart(createRequest))
+            .contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+            .with(csrf()))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.details.email", is("dup@example.com")));
+  }
+
+  @Test
+  @WithMockUser(roles = "USER")
+  @DisplayName("사용자 생성 실패 API 통합 테스트 - 이미 존재하는 사용자명")
+  void createUser_Failure_DuplicateUsername() throws Exception {
+    // Given
+    userService.create(new UserCreateRequest("dupuser", "existing@example.com", "Password1!"),
+        Optional.empty());
+    UserCreateRequest createRequest = new UserCreateRequest(
+        "dupuser",
+        "new@example.com",
+        "Password1!"
+    );
+
+    // When & Then
+    mockMvc.perform(multipart("/api/users")
+            .file(userCreateRequestPart(createRequest))
+            .contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+            .with(csrf()))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.details.username", is("dupuser")));
+  }
+
   @Test
   @WithMockUser(roles = "USER")
   @DisplayName("모든 사용자 조회 API 통합 테스트")
@@ -296,4 +340,13 @@ Role.USER
             .with(user(userDetails)))
         .andExpect(status().isNotFound());
   }
-}
\ No newline at end of file
+
+  private MockMultipartFile userCreateRequestPart(UserCreateRequest request) throws Exception {
+    return new MockMultipartFile(
+        "userCreateRequest",
+        "",
+        MediaType.APPLICATION_JSON_VALUE,
+        objectMapper.writeValueAsBytes(request)
+    );
+  }
+}
@@ -2,8 +2,14 @@ package com.sprint.mission.discodeit.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -20,12 +27,19 @@ import org.springframework.test.context.ActiveProfiles;
  */
 @DataJpaTest
 @EnableJpaAuditing
+@Import(SecondLevelCacheConfig.class)
 @ActiveProfiles("test")
 class ChannelRepositoryTest {
 
   @Autowired
   private ChannelRepository channelRepository;
 
+  @Autowired
+  private MessageRepository messageRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
   @Autowired
   private TestEntityManager entityManager;
 
@@ -93,4 +107,84 @@ class ChannelRepositoryTest {
     // then
     assertThat(foundChannels).isEmpty();
   }
-} 
\ No newline at end of file
+
+  @Test
+  @DisplayName("마지막 메시지 시간은 더 최근 시간으로만 갱신된다")
+  void advanceLastMessageAt_OnlyMovesForward() {
+    // given
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "공개채널");
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    // 영속성 컨텍스트 초기화
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    int first = channelRepository.advanceLastMessageAt(channel.getId(), now);
+    int older = channelRepository.advanceLastMessageAt(channel.getId(),
+        now.minus(1, ChronoUnit.MINUTES));
+    entityManager.clear();
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(older).isZero();
+    assertThat(channelRepository.findById(channel.getId()))
+        .hasValueSatisfying(found -> assertThat(found.getLastMessageAt()).isEqualTo(now));
+  }
+
+  @Test
+  @DisplayName("삭제된 메시지가 마지막 메시지였다면 남은 메시지 기준으로 마지막 메시지 시간을 다시 계산한다")
+  void rewindLastMessageAt_RecalculatesFromRemainingMessages() {
+    // given
+    User author = userRepository.save(new User("testUser", "test@example.com", "password123!@#",
+        null));
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "공개채널");
+    Message remaining = messageRepository.save(
+        new Message("남은 메시지", channel, author, new ArrayList<>()));
+    Message deleted = messageRepository.save(
+        new Message("삭제할 메시지", channel, author, new ArrayList<>()));
+    entityManager.flush();
+    channelRepository.advanceLastMessageAt(channel.getId(), remaining.getCreatedAt());
+    channelRepository.advanceLastMessageAt(channel.getId(), deleted.getCreatedAt());
+
+    // 영속성 컨텍스트 초기화 (DB에 저장된 정밀도의 생성 시간으로 다시 조회)
+    entityManager.clear();
+    Instant remainingAt = messageRepository.findById(remaining.getId()).orElseThrow()
+        .getCreatedAt();
+    Instant deletedAt = messageRepository.findById(deleted.getId()).orElseThrow().getCreatedAt();
+
+    // when
+    messageRepository.deleteById(deleted.getId());
+    int rewound = channelRepository.rewindLastMessageAt(channel.getId(), deletedAt);
+    entityManager.clear();
+
+    // then
+    assertThat(rewound).isEqualTo(1);
+    assertThat(channelRepository.findById(channel.getId()))
+        .hasValueSatisfying(found -> assertThat(found.getLastMessageAt())
+            .isEqualTo(remainingAt));
+  }
+
+  @Test
+  @DisplayName("삭제된 메시지가 마지막 메시지가 아니면 마지막 메시지 시간을 유지한다")
+  void rewindLastMessageAt_NotLatest_KeepsLastMessageAt() {
+    // given
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "공개채널");
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    entityManager.flush();
+    channelRepository.advanceLastMessageAt(channel.getId(), now);
+
+    // 영속성 컨텍스트 초기화
+    entityManager.clear();
+
+    // when
+    int rewound = channelRepository.rewindLastMessageAt(channel.getId(),
+        now.minus(1, ChronoUnit.MINUTES));
+    entityManager.clear();
+
+    // then
+    assertThat(rewound).isZero();
+    assertThat(channelRepository.findById(channel.getId()))
+        .hasValueSatisfying(found -> assertThat(found.getLastMessageAt()).isEqualTo(now));
+  }
+}
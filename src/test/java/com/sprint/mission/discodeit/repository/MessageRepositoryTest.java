@@ -2,6 +2,8 @@ package com.sprint.mission.discodeit.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
@@ -10,17 +12,19 @@ import com.sprint.mission.discodeit.entity.User;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -30,6 +34,7 @@ import org.springframework.test.util.ReflectionTestUtils;
  */
 @DataJpaTest
 @EnableJpaAuditing
+@Import(SecondLevelCacheConfig.class)
 @ActiveProfiles("test")
 class MessageRepositoryTest {
 
@@ -80,96 +85,115 @@ class MessageRepositoryTest {
     return savedMessage;
   }
 
+  private static List<UUID> ids(List<MessageCursor> cursors) {
+    return cursors.stream().map(MessageCursor::id).toList();
+  }
+
   @Test
-  @DisplayName("채널 ID와 생성 시간으로 메시지를 페이징하여 조회할 수 있다")
-  void findAllByChannelIdWithAuthor_ReturnsMessagesWithAuthor() {
+  @DisplayName("채널의 최신 메시지 ID를 최신순으로 조회할 수 있다")
+  void findLatestCursorsByChannelId_ReturnsLatestIds() {
     // given
     User user = createTestUser("testUser", "test@example.com");
     Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
 
-    Instant now = Instant.now();
-    Instant fiveMinutesAgo = now.minus(5, ChronoUnit.MINUTES);
-    Instant tenMinutesAgo = now.minus(10, ChronoUnit.MINUTES);
-
     // 채널에 세 개의 메시지 생성 (시간 순서대로)
-    Message message1 = createTestMessage("첫 번째 메시지", channel, user, tenMinutesAgo);
-    Message message2 = createTestMessage("두 번째 메시지", channel, user, fiveMinutesAgo);
-    Message message3 = createTestMessage("세 번째 메시지", channel, user, now);
+    createTestMessage("첫 번째 메시지", channel, user, null);
+    Message message2 = createTestMessage("두 번째 메시지", channel, user, null);
+    Message message3 = createTestMessage("세 번째 메시지", channel, user, null);
 
     // 영속성 컨텍스트 초기화
     entityManager.flush();
     entityManager.clear();
 
-    // when - 최신 메시지보다 이전 시간으로 조회
-    Slice<Message> messages = messageRepository.findAllByChannelIdWithAuthor(
-        channel.getId(),
-        now.plus(1, ChronoUnit.MINUTES),  // 현재 시간보다 더 미래
-        PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"))
-    );
+    // when
+    List<UUID> ids = ids(messageRepository.findLatestCursorsByChannelId(channel.getId(),
+        Limit.of(2)));
 
     // then
-    assertThat(messages).isNotNull();
-    assertThat(messages.hasContent()).isTrue();
-    assertThat(messages.getNumberOfElements()).isEqualTo(2);  // 페이지 크기 만큼만 반환
-    assertThat(messages.hasNext()).isTrue();
-
-    // 시간 역순(최신순)으로 정렬되어 있는지 확인
-    List<Message> content = messages.getContent();
-    assertThat(content.get(0).getCreatedAt()).isAfterOrEqualTo(content.get(1).getCreatedAt());
-
-    // 저자 정보가 함께 로드되었는지 확인 (FETCH JOIN)
-    Message firstMessage = content.get(0);
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor())).isTrue();
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor().getProfile())).isTrue();
+    assertThat(ids).containsExactly(message3.getId(), message2.getId());
   }
 
   @Test
-  @DisplayName("채널의 마지막 메시지 시간을 조회할 수 있다")
-  void findLastMessageAtByChannelId_ReturnsLastMessageTime() {
+  @DisplayName("생성 시간이 같은 메시지도 (createdAt, id) 커서로 누락이나 중복 없이 양방향 조회할 수 있다")
+  void findOlderAndNewerCursorsByChannelId_SameCreatedAt() {
     // given
     User user = createTestUser("testUser", "test@example.com");
     Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
+    for (int i = 0; i < 5; i++) {
+      createTestMessage("메시지" + i, channel, user, null);
+    }
 
-    Instant now = Instant.now();
-    Instant fiveMinutesAgo = now.minus(5, ChronoUnit.MINUTES);
-    Instant tenMinutesAgo = now.minus(10, ChronoUnit.MINUTES);
-
-    // 채널에 세 개의 메시지 생성 (시간 순서대로)
-    createTestMessage("첫 번째 메시지", channel, user, tenMinutesAgo);
-    createTestMessage("두 번째 메시지", channel, user, fiveMinutesAgo);
-    Message lastMessage = createTestMessage("세 번째 메시지", channel, user, now);
-
-    // 영속성 컨텍스트 초기화
-    entityManager.flush();
+    // 모든 메시지의 생성 시간을 동일하게 설정
+    Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    entityManager.getEntityManager()
+        .createQuery("UPDATE Message m SET m.createdAt = :createdAt")
+        .setParameter("createdAt", createdAt)
+        .executeUpdate();
     entityManager.clear();
 
-    // when
-    Optional<Instant> lastMessageAt = messageRepository.findLastMessageAtByChannelId(
-        channel.getId());
+    // when - 최신순으로 2개씩 끝까지 조회
+    List<UUID> olderIds = new ArrayList<>(
+        ids(messageRepository.findLatestCursorsByChannelId(channel.getId(), Limit.of(2))));
+    List<UUID> page = olderIds;
+    while (!page.isEmpty()) {
+      UUID lastId = page.get(page.size() - 1);
+      page = ids(messageRepository.findOlderCursorsByChannelId(channel.getId(), createdAt, lastId,
+          Limit.of(2)));
+      olderIds.addAll(page);
+    }
 
     // then
-    assertThat(lastMessageAt).isPresent();
-    // 마지막 메시지 시간과 일치하는지 확인 (밀리초 단위 이하의 차이는 무시)
-    assertThat(lastMessageAt.get().truncatedTo(ChronoUnit.MILLIS))
-        .isEqualTo(lastMessage.getCreatedAt().truncatedTo(ChronoUnit.MILLIS));
+    assertThat(olderIds).hasSize(5).doesNotHaveDuplicates();
+
+    // when - 가장 오래된 메시지부터 이후 메시지 조회
+    List<UUID> newerIds = ids(messageRepository.findNewerCursorsByChannelId(channel.getId(),
+        createdAt, olderIds.get(olderIds.size() - 1), Limit.of(10)));
+
+    // then - 최신순 조회 결과의 역순과 일치
+    List<UUID> expected = new ArrayList<>(olderIds.subList(0, 4));
+    Collections.reverse(expected);
+    assertThat(newerIds).containsExactlyElementsOf(expected);
   }
 
   @Test
-  @DisplayName("메시지가 없는 채널에서는 마지막 메시지 시간이 없다")
-  void findLastMessageAtByChannelId_NoMessages_ReturnsEmpty() {
+  @DisplayName("메시지 페이지를 첨부파일 수와 관계없이 ID 조회 + 본문 조회 두 번의 쿼리로 프록시 없이 로딩한다")
+  void findAllWithAuthorAndAttachmentsByIdIn_TwoQueryPlan() {
     // given
-    Channel emptyChannel = createTestChannel(ChannelType.PUBLIC, "빈채널");
+    User user = createTestUser("testUser", "test@example.com");
+    Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
+    for (int i = 0; i < 10; i++) {
+      List<BinaryContent> attachments = new ArrayList<>();
+      for (int j = 0; j < i % 4; j++) {
+        attachments.add(new BinaryContent("file" + j + ".txt", 100L, "text/plain"));
+      }
+      messageRepository.save(new Message("메시지" + i, channel, user, attachments));
+    }
 
     // 영속성 컨텍스트 초기화
     entityManager.flush();
     entityManager.clear();
 
+    Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
     // when
-    Optional<Instant> lastMessageAt = messageRepository.findLastMessageAtByChannelId(
-        emptyChannel.getId());
+    List<UUID> ids = ids(messageRepository.findLatestCursorsByChannelId(channel.getId(),
+        Limit.of(10)));
+    List<Message> messages = messageRepository.findAllWithAuthorAndAttachmentsByIdIn(ids);
 
     // then
-    assertThat(lastMessageAt).isEmpty();
+    assertThat(messages).hasSize(10);
+    int attachmentCount = 0;
+    for (Message message : messages) {
+      assertThat(Hibernate.isInitialized(message.getAuthor())).isTrue();
+      assertThat(Hibernate.isInitialized(message.getAuthor().getProfile())).isTrue();
+      assertThat(Hibernate.isInitialized(message.getAttachments())).isTrue();
+      attachmentCount += message.getAttachments().size();
+    }
+    assertThat(attachmentCount).isEqualTo(13);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
   }
 
   @Test
@@ -199,19 +223,13 @@ class MessageRepositoryTest {
 
     // then
     // 해당 채널의 메시지는 삭제되었는지 확인
-    List<Message> channelMessages = messageRepository.findAllByChannelIdWithAuthor(
-        channel.getId(),
-        Instant.now().plus(1, ChronoUnit.DAYS),
-        PageRequest.of(0, 100)
-    ).getContent();
+    List<MessageCursor> channelMessages = messageRepository.findLatestCursorsByChannelId(
+        channel.getId(), Limit.of(100));
     assertThat(channelMessages).isEmpty();
 
     // 다른 채널의 메시지는 그대로인지 확인
-    List<Message> otherChannelMessages = messageRepository.findAllByChannelIdWithAuthor(
-        otherChannel.getId(),
-        Instant.now().plus(1, ChronoUnit.DAYS),
-        PageRequest.of(0, 100)
-    ).getContent();
+    List<MessageCursor> otherChannelMessages = messageRepository.findLatestCursorsByChannelId(
+        otherChannel.getId(), Limit.of(100));
     assertThat(otherChannelMessages).hasSize(1);
   }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
@@ -9,13 +10,18 @@ import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -24,6 +30,7 @@ import org.springframework.test.context.ActiveProfiles;
  */
 @DataJpaTest
 @EnableJpaAuditing
+@Import(SecondLevelCacheConfig.class)
 @ActiveProfiles("test")
 class ReadStatusRepositoryTest {
 
@@ -117,6 +124,42 @@ class ReadStatusRepositoryTest {
     }
   }
 
+  @Test
+  @DisplayName("여러 채널의 읽음 상태를 채널 수와 관계없이 한 번의 쿼리로 사용자 정보와 함께 조회할 수 있다")
+  void findAllByChannelIdInWithUser_SingleQuery() {
+    // given
+    List<UUID> channelIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Channel channel = createTestChannel(ChannelType.PRIVATE, "비공개채널" + i);
+      for (int j = 0; j < 2; j++) {
+        User user = createTestUser("user" + i + "_" + j, "user" + i + "_" + j + "@example.com");
+        createTestReadStatus(user, channel, Instant.now());
+      }
+      channelIds.add(channel.getId());
+    }
+
+    // 영속성 컨텍스트 초기화
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    List<ReadStatus> readStatuses = readStatusRepository.findAllByChannelIdInWithUser(channelIds);
+    for (ReadStatus status : readStatuses) {
+      status.getChannel().getId();
+      status.getUser().getUsername();
+      status.getUser().getProfile().getFileName();
+    }
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(readStatuses).hasSize(10);
+  }
+
   @Test
   @DisplayName("사용자 ID와 채널 ID로 읽음 상태 존재 여부를 확인할 수 있다")
   void existsByUserIdAndChannelId_ExistingStatus_ReturnsTrue() {
@@ -0,0 +1,76 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
+import java.util.Arrays;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * db/migration 스크립트 검증
+ * <p>
+ * H2(PostgreSQL 모드)에 마이그레이션을 적용한 뒤 ddl-auto: validate로 엔티티와 스키마가 일치하는지 확인한다.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(SecondLevelCacheConfig.class)
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("모든 마이그레이션이 적용되고 엔티티 검증(validate)을 통과한다")
+  void migrate_AllApplied() {
+    // when
+    List<String> applied = Arrays.stream(flyway.info().applied())
+        .map(MigrationInfo::getVersion)
+        .map(Object::toString)
+        .toList();
+
+    // then
+    assertThat(applied).containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9");
+    assertThat(flyway.info().pending()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("조회 경로에 필요한 보조 인덱스가 생성된다")
+  void migrate_CreatesIndexes() {
+    // when
+    List<String> indexNames = jdbcTemplate.queryForList(
+        "SELECT index_name FROM information_schema.indexes", String.class);
+
+    // then
+    assertThat(indexNames).contains(
+        "idx_messages_channel_id_created_at",
+        "idx_read_statuses_channel_id_user_id",
+        "idx_refresh_tokens_user_id",
+        "idx_refresh_tokens_family_id",
+        "idx_refresh_tokens_expires_at",
+        "idx_refresh_tokens_rotated_at",
+        "idx_message_attachments_attachment_id",
+        "idx_binary_contents_blob_id",
+        "idx_pending_uploads_created_at",
+        "idx_pending_uploads_blob_id"
+    );
+  }
+}
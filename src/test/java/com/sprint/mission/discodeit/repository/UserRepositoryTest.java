@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.config.SecondLevelCacheConfig;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
 import java.util.List;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -20,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
  */
 @DataJpaTest
 @EnableJpaAuditing
+@Import(SecondLevelCacheConfig.class)
 @ActiveProfiles("test")
 class UserRepositoryTest {
 
@@ -71,34 +74,6 @@ class UserRepositoryTest {
     assertThat(foundUser).isEmpty();
   }
 
-  @Test
-  @DisplayName("이메일로 사용자 존재 여부를 확인할 수 있다")
-  void existsByEmail_ExistingEmail_ReturnsTrue() {
-    // given
-    String email = "test@example.com";
-    User user = createTestUser("testUser", email);
-    userRepository.save(user);
-
-    // when
-    boolean exists = userRepository.existsByEmail(email);
-
-    // then
-    assertThat(exists).isTrue();
-  }
-
-  @Test
-  @DisplayName("존재하지 않는 이메일로 확인하면 false를 반환한다")
-  void existsByEmail_NonExistingEmail_ReturnsFalse() {
-    // given
-    String nonExistingEmail = "nonexisting@example.com";
-
-    // when
-    boolean exists = userRepository.existsByEmail(nonExistingEmail);
-
-    // then
-    assertThat(exists).isFalse();
-  }
-
   @Test
   @DisplayName("모든 사용자를 프로필과 함께 조회할 수 있다")
   void findAllWithProfileAndStatus_ReturnsUsersWithProfileAndStatus() {
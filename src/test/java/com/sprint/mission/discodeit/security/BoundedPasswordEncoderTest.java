@@ -0,0 +1,114 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+  private MeterRegistry meterRegistry;
+  private ThreadPoolExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("해시 계산은 전용 스레드에서 실행하고 소요 시간을 기록한다")
+  void encodeAndMatches_RunOnHashingThread() {
+    // given
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4),
+        meterRegistry, executor);
+
+    // when
+    String encoded = encoder.encode("Password1!");
+
+    // then
+    assertThat(encoder.matches("Password1!", encoded)).isTrue();
+    assertThat(encoder.matches("WrongPassword1!", encoded)).isFalse();
+    assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches")
+        .timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("계산 중인 스레드와 대기열이 모두 차 있으면 기다리지 않고 거절한다")
+  void encode_Saturated_ThrowsBusy() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+        blockingEncoder(started, release), meterRegistry, executor);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    started.await(5, TimeUnit.SECONDS);
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    while (executor.getQueue().isEmpty()) {
+      Thread.onSpinWait();
+    }
+
+    // when & then
+    assertThatThrownBy(() -> encoder.encode("c"))
+        .isInstanceOf(PasswordHashingBusyException.class);
+    assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+  }
+
+  @Test
+  @DisplayName("저장된 해시의 cost가 설정보다 낮으면 갱신 대상이다")
+  void upgradeEncoding_LowerCost_ReturnsTrue() {
+    // given
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5),
+        meterRegistry, executor);
+
+    // when & then
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("a"))).isTrue();
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("a"))).isFalse();
+  }
+
+  private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "encoded-" + rawPassword;
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return false;
+      }
+    };
+  }
+}
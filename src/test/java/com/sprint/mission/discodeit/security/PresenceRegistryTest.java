@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PresenceRegistryTest {
+
+  private Instant now;
+  private PresenceRegistry presenceRegistry;
+
+  @BeforeEach
+  void setUp() {
+    now = Instant.parse("2025-01-01T00:00:00Z");
+    presenceRegistry = new PresenceRegistry(Duration.ofMinutes(5), Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("세션이 등록된 사용자는 마지막 세션이 제거될 때까지 접속 중이다")
+  void session_RegisterAndRemove() {
+    // given
+    UUID userId = UUID.randomUUID();
+
+    // when
+    presenceRegistry.registerSession(userId, "session-1");
+    presenceRegistry.registerSession(userId, "session-2");
+
+    // then
+    assertThat(presenceRegistry.isOnline(userId)).isTrue();
+    assertThat(presenceRegistry.getSessionIds(userId)).containsExactlyInAnyOrder("session-1", "session-2");
+
+    presenceRegistry.removeSession("session-1");
+    assertThat(presenceRegistry.isOnline(userId)).isTrue();
+
+    presenceRegistry.removeSession("session-2");
+    assertThat(presenceRegistry.isOnline(userId)).isFalse();
+    assertThat(presenceRegistry.getSessionIds(userId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("토큰 활동 기록은 TTL이 지나면 접속 종료로 처리된다")
+  void touch_ExpiresAfterTtl() {
+    // given
+    UUID userId = UUID.randomUUID();
+    presenceRegistry.touch(userId);
+    assertThat(presenceRegistry.isOnline(userId)).isTrue();
+
+    // when
+    ReflectionTestUtils.setField(presenceRegistry, "clock",
+        Clock.fixed(now.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+
+    // then
+    assertThat(presenceRegistry.isOnline(userId)).isFalse();
+  }
+
+  @Test
+  @DisplayName("여러 사용자의 접속 여부를 한 번에 조회할 수 있다")
+  void onlineSet_ReturnsOnlyOnlineUsers() {
+    // given
+    UUID sessionUser = UUID.randomUUID();
+    UUID tokenUser = UUID.randomUUID();
+    UUID offlineUser = UUID.randomUUID();
+    presenceRegistry.registerSession(sessionUser, "session-1");
+    presenceRegistry.touch(tokenUser);
+
+    // when & then
+    assertThat(presenceRegistry.onlineSet(List.of(sessionUser, tokenUser, offlineUser)))
+        .containsExactlyInAnyOrder(sessionUser, tokenUser);
+
+    presenceRegistry.markOffline(tokenUser);
+    assertThat(presenceRegistry.onlineSet(List.of(sessionUser, tokenUser, offlineUser)))
+        .containsExactly(sessionUser);
+  }
+}
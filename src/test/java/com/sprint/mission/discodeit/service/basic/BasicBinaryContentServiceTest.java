@@ -10,9 +10,12 @@ import static org.mockito.Mockito.verify;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentVariant;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
 import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentVariantRepository;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +43,12 @@ class BasicBinaryContentServiceTest {
   @Mock
   private BinaryContentStorage binaryContentStorage;
 
+  @Mock
+  private BinaryContentVariantRepository binaryContentVariantRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private BasicBinaryContentService binaryContentService;
 
@@ -71,7 +81,7 @@ class BasicBinaryContentServiceTest {
   @DisplayName("바이너리 콘텐츠 생성 성공")
   void createBinaryContent_Success() {
     // given
-    BinaryContentCreateRequest request = new BinaryContentCreateRequest(fileName, contentType,
+    BinaryContentCreateRequest request = BinaryContentCreateRequest.of(fileName, contentType,
         bytes);
 
     given(binaryContentRepository.save(any(BinaryContent.class))).will(invocation -> {
@@ -87,7 +97,8 @@ class BasicBinaryContentServiceTest {
     // then
     assertThat(result).isEqualTo(binaryContentDto);
     verify(binaryContentRepository).save(any(BinaryContent.class));
-    verify(binaryContentStorage).put(binaryContentId, bytes);
+    verify(binaryContentStorage).put(eq(binaryContentId), eq(request.content()), eq((long) bytes.length));
+    verify(eventPublisher).publishEvent(new BinaryContentCreatedEvent(binaryContentId, contentType));
   }
 
   @Test
@@ -105,6 +116,45 @@ class BasicBinaryContentServiceTest {
     assertThat(result).isEqualTo(binaryContentDto);
   }
 
+  @Test
+  @DisplayName("크기를 지정하면 그 크기 이상인 가장 작은 축소본을 반환")
+  void findForDownload_WithVariant_ReturnsVariant() {
+    // given
+    BinaryContentVariant variant = new BinaryContentVariant(binaryContent, 64, 1200L, "image/jpeg");
+    UUID variantId = UUID.randomUUID();
+    ReflectionTestUtils.setField(variant, "id", variantId);
+    given(binaryContentRepository.findById(eq(binaryContentId))).willReturn(
+        Optional.of(binaryContent));
+    given(binaryContentMapper.toDto(eq(binaryContent))).willReturn(binaryContentDto);
+    given(binaryContentVariantRepository
+        .findFirstByBinaryContentIdAndWidthGreaterThanEqualOrderByWidthAsc(binaryContentId, 40))
+        .willReturn(Optional.of(variant));
+
+    // when
+    BinaryContentDto result = binaryContentService.findForDownload(binaryContentId, 40);
+
+    // then
+    assertThat(result).isEqualTo(new BinaryContentDto(variantId, fileName, 1200L, "image/jpeg"));
+  }
+
+  @Test
+  @DisplayName("맞는 축소본이 없으면 원본을 반환")
+  void findForDownload_WithoutVariant_ReturnsOriginal() {
+    // given
+    given(binaryContentRepository.findById(eq(binaryContentId))).willReturn(
+        Optional.of(binaryContent));
+    given(binaryContentMapper.toDto(eq(binaryContent))).willReturn(binaryContentDto);
+    given(binaryContentVariantRepository
+        .findFirstByBinaryContentIdAndWidthGreaterThanEqualOrderByWidthAsc(binaryContentId, 1024))
+        .willReturn(Optional.empty());
+
+    // when
+    BinaryContentDto result = binaryContentService.findForDownload(binaryContentId, 1024);
+
+    // then
+    assertThat(result).isEqualTo(binaryContentDto);
+  }
+
   @Test
   @DisplayName("존재하지 않는 바이너리 콘텐츠 조회 시 예외 발생")
   void findBinaryContent_WithNonExistentId_ThrowsException() {
@@ -16,6 +16,7 @@ import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.ChannelChangedEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.PrivateChannelUpdateException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +56,9 @@ class BasicChannelServiceTest {
   @Mock
   private ChannelMapper channelMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private BasicChannelService channelService;
 
@@ -146,7 +151,7 @@ class BasicChannelServiceTest {
     given(readStatusRepository.findAllByUserId(eq(userId))).willReturn(readStatuses);
     given(channelRepository.findAllByTypeOrIdIn(eq(ChannelType.PUBLIC), eq(List.of(channel.getId()))))
         .willReturn(List.of(channel));
-    given(channelMapper.toDto(any(Channel.class))).willReturn(channelDto);
+    given(channelMapper.toDtoList(eq(List.of(channel)))).willReturn(List.of(channelDto));
 
     // when
     List<ChannelDto> result = channelService.findAllByUserId(userId);
@@ -155,6 +160,27 @@ class BasicChannelServiceTest {
     assertThat(result).containsExactly(channelDto);
   }
 
+  @Test
+  @DisplayName("구독 가능한 채널 ID 조회 시 볼 수 없는 채널은 제외된다")
+  void findAccessibleChannelIds_FiltersInaccessibleChannels() {
+    // given
+    Channel otherChannel = new Channel(ChannelType.PUBLIC, "otherChannel", null);
+    ReflectionTestUtils.setField(otherChannel, "id", UUID.randomUUID());
+    UUID privateChannelId = UUID.randomUUID();
+    given(readStatusRepository.findAllByUserId(eq(userId))).willReturn(List.of());
+    given(channelRepository.findAllByTypeOrIdIn(eq(ChannelType.PUBLIC), eq(List.of())))
+        .willReturn(List.of(channel, otherChannel));
+
+    // when
+    List<UUID> requested = channelService.findAccessibleChannelIds(userId,
+        List.of(channelId, privateChannelId));
+    List<UUID> all = channelService.findAccessibleChannelIds(userId, List.of());
+
+    // then
+    assertThat(requested).containsExactly(channelId);
+    assertThat(all).containsExactly(channelId, otherChannel.getId());
+  }
+
   @Test
   @DisplayName("공개 채널 수정 성공")
   void updatePublicChannel_Success() {
@@ -171,6 +197,7 @@ class BasicChannelServiceTest {
 
     // then
     assertThat(result).isEqualTo(channelDto);
+    verify(eventPublisher).publishEvent(eq(new ChannelChangedEvent(channelId)));
   }
 
   @Test
@@ -213,6 +240,7 @@ class BasicChannelServiceTest {
     verify(messageRepository).deleteAllByChannelId(eq(channelId));
     verify(readStatusRepository).deleteAllByChannelId(eq(channelId));
     verify(channelRepository).deleteById(eq(channelId));
+    verify(eventPublisher).publishEvent(eq(new ChannelChangedEvent(channelId)));
   }
 
   @Test
@@ -3,11 +3,13 @@ package com.sprint.mission.discodeit.service.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
@@ -20,7 +22,9 @@ import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.MessageEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.exception.message.InvalidMessageCursorException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.MessageMapper;
@@ -29,7 +33,8 @@ import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.staging.UploadPromoter;
+import com.sprint.mission.discodeit.storage.staging.UploadStager;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -38,12 +43,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,14 +71,20 @@ class BasicMessageServiceTest {
   private MessageMapper messageMapper;
 
   @Mock
-  private BinaryContentStorage binaryContentStorage;
+  private UploadStager uploadStager;
 
   @Mock
   private BinaryContentRepository binaryContentRepository;
 
+  @Mock
+  private UploadPromoter uploadPromoter;
+
   @Mock
   private PageResponseMapper pageResponseMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private BasicMessageService messageService;
 
@@ -120,16 +135,16 @@ class BasicMessageServiceTest {
   void createMessage_Success() {
     // given
     MessageCreateRequest request = new MessageCreateRequest(content, channelId, authorId);
-    BinaryContentCreateRequest attachmentRequest = new BinaryContentCreateRequest("test.txt",
+    BinaryContentCreateRequest attachmentRequest = BinaryContentCreateRequest.of("test.txt",
         "text/plain", new byte[100]);
     List<BinaryContentCreateRequest> attachmentRequests = List.of(attachmentRequest);
 
     given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
     given(userRepository.findById(eq(authorId))).willReturn(Optional.of(author));
-    given(binaryContentRepository.save(any(BinaryContent.class))).will(invocation -> {
-      BinaryContent binaryContent = invocation.getArgument(0);
-      ReflectionTestUtils.setField(binaryContent, "id", attachment.getId());
-      return attachment;
+    given(binaryContentRepository.saveAll(anyList())).will(invocation -> {
+      List<BinaryContent> binaryContents = invocation.getArgument(0);
+      ReflectionTestUtils.setField(binaryContents.get(0), "id", attachment.getId());
+      return binaryContents;
     });
     given(messageRepository.save(any(Message.class))).willReturn(message);
     given(messageMapper.toDto(any(Message.class))).willReturn(messageDto);
@@ -140,7 +155,37 @@ class BasicMessageServiceTest {
     // then
     assertThat(result).isEqualTo(messageDto);
     verify(messageRepository).save(any(Message.class));
-    verify(binaryContentStorage).put(eq(attachment.getId()), any(byte[].class));
+    verify(uploadStager).uploadAll(eq(List.of(attachment.getId())),
+        eq(List.of(attachmentRequest)));
+    verify(channelRepository).advanceLastMessageAt(eq(channelId), any());
+    verify(eventPublisher).publishEvent(eq(MessageEvent.created(messageDto)));
+  }
+
+  @Test
+  @DisplayName("미리 업로드된 첨부파일은 같은 ID로 저장하고 업로드 없이 승격한다")
+  void createMessage_WithStagedAttachment_PromotesWithoutUpload() {
+    // given
+    UUID stagedId = UUID.randomUUID();
+    MessageCreateRequest request = new MessageCreateRequest(content, channelId, authorId);
+    BinaryContentCreateRequest attachmentRequest = BinaryContentCreateRequest.of("test.txt",
+        "text/plain", new byte[100]).staged(stagedId);
+
+    given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
+    given(userRepository.findById(eq(authorId))).willReturn(Optional.of(author));
+    given(binaryContentRepository.saveAll(anyList()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    given(messageRepository.save(any(Message.class))).willReturn(message);
+    given(messageMapper.toDto(any(Message.class))).willReturn(messageDto);
+
+    // when
+    messageService.create(request, List.of(attachmentRequest));
+
+    // then
+    ArgumentCaptor<List<BinaryContent>> captor = ArgumentCaptor.forClass(List.class);
+    verify(binaryContentRepository).saveAll(captor.capture());
+    assertThat(captor.getValue()).extracting(BinaryContent::getId).containsExactly(stagedId);
+    verify(uploadPromoter).promoteAll(eq(captor.getValue()));
+    verify(uploadStager).uploadAll(eq(List.of()), eq(List.of()));
   }
 
   @Test
@@ -198,123 +243,157 @@ class BasicMessageServiceTest {
   void findAllByChannelId_Success() {
     // given
     int pageSize = 2; // 페이지 크기를 2로 설정
-    Instant createdAt = Instant.now();
     Pageable pageable = PageRequest.of(0, pageSize);
 
-    // 여러 메시지 생성 (페이지 사이즈보다 많게)
-    Message message1 = new Message(content + "1", channel, author, List.of(attachment));
-    Message message2 = new Message(content + "2", channel, author, List.of(attachment));
-    Message message3 = new Message(content + "3", channel, author, List.of(attachment));
-
-    ReflectionTestUtils.setField(message1, "id", UUID.randomUUID());
-    ReflectionTestUtils.setField(message2, "id", UUID.randomUUID());
-    ReflectionTestUtils.setField(message3, "id", UUID.randomUUID());
-
-    // 각 메시지에 해당하는 DTO 생성
-    Instant message1CreatedAt = Instant.now().minusSeconds(30);
-    Instant message2CreatedAt = Instant.now().minusSeconds(20);
-    Instant message3CreatedAt = Instant.now().minusSeconds(10);
-
-    ReflectionTestUtils.setField(message1, "createdAt", message1CreatedAt);
-    ReflectionTestUtils.setField(message2, "createdAt", message2CreatedAt);
-    ReflectionTestUtils.setField(message3, "createdAt", message3CreatedAt);
-
-    MessageDto messageDto1 = new MessageDto(
-        message1.getId(),
-        message1CreatedAt,
-        message1CreatedAt,
-        content + "1",
-        channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true, Role.USER),
-        List.of(attachmentDto)
-    );
-
-    MessageDto messageDto2 = new MessageDto(
-        message2.getId(),
-        message2CreatedAt,
-        message2CreatedAt,
-        content + "2",
-        channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true, Role.USER),
-        List.of(attachmentDto)
-    );
-
-    // 첫 페이지 결과 세팅 (2개 메시지)
-    List<Message> firstPageMessages = List.of(message1, message2);
-    List<MessageDto> firstPageDtos = List.of(messageDto1, messageDto2);
-
-    // 첫 페이지는 다음 페이지가 있고, 커서는 message2의 생성 시간이어야 함
-    SliceImpl<Message> firstPageSlice = new SliceImpl<>(firstPageMessages, pageable, true);
-    PageResponse<MessageDto> firstPageResponse = new PageResponse<>(
-        firstPageDtos,
-        message2CreatedAt,
-        pageSize,
-        true,
-        null
-    );
-
-    // 모의 객체 설정
-    given(
-        messageRepository.findAllByChannelIdWithAuthor(eq(channelId), eq(createdAt), eq(pageable)))
-        .willReturn(firstPageSlice);
-    given(messageMapper.toDto(eq(message1))).willReturn(messageDto1);
+    // 여러 메시지 생성 (페이지 사이즈보다 많게, message3이 가장 최신)
+    Message message1 = createMessage(content + "1", Instant.now().minusSeconds(30));
+    Message message2 = createMessage(content + "2", Instant.now().minusSeconds(20));
+    Message message3 = createMessage(content + "3", Instant.now().minusSeconds(10));
+    MessageDto messageDto1 = toDto(message1);
+    MessageDto messageDto2 = toDto(message2);
+    MessageDto messageDto3 = toDto(message3);
+
+    // 다음 페이지 존재 여부 확인을 위해 pageSize + 1건 조회
+    given(messageRepository.findLatestCursorsByChannelId(eq(channelId), eq(Limit.of(pageSize + 1))))
+        .willReturn(List.of(cursorOf(message3), cursorOf(message2), cursorOf(message1)));
+    // 본문 조회 결과의 순서와 관계없이 ID 목록 순서대로 응답
+    given(messageRepository.findAllWithAuthorAndAttachmentsByIdIn(
+        eq(List.of(message3.getId(), message2.getId()))))
+        .willReturn(List.of(message2, message3));
     given(messageMapper.toDto(eq(message2))).willReturn(messageDto2);
-    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(message2CreatedAt)))
-        .willReturn(firstPageResponse);
+    given(messageMapper.toDto(eq(message3))).willReturn(messageDto3);
+    givenPageResponseFromSlice();
 
     // when
-    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, createdAt,
-        pageable);
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, null,
+        Direction.DESC, pageable);
 
     // then
-    assertThat(result).isEqualTo(firstPageResponse);
-    assertThat(result.content()).hasSize(pageSize);
+    assertThat(result.content()).containsExactly(messageDto3, messageDto2);
     assertThat(result.hasNext()).isTrue();
-    assertThat(result.nextCursor()).isEqualTo(message2CreatedAt);
+    assertThat(result.nextCursor())
+        .isEqualTo(new MessageCursor(message2.getCreatedAt(), message2.getId()).encode());
 
     // 두 번째 페이지 테스트
     // given
-    List<Message> secondPageMessages = List.of(message3);
-    MessageDto messageDto3 = new MessageDto(
-        message3.getId(),
-        message3CreatedAt,
-        message3CreatedAt,
-        content + "3",
-        channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true, Role.USER),
-        List.of(attachmentDto)
-    );
-    List<MessageDto> secondPageDtos = List.of(messageDto3);
-
-    // 두 번째 페이지는 다음 페이지가 없음
-    SliceImpl<Message> secondPageSlice = new SliceImpl<>(secondPageMessages, pageable, false);
-    PageResponse<MessageDto> secondPageResponse = new PageResponse<>(
-        secondPageDtos,
-        message3CreatedAt,
-        pageSize,
-        false,
-        null
-    );
-
-    // 두 번째 페이지 모의 객체 설정
-    given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), eq(message2CreatedAt),
-        eq(pageable)))
-        .willReturn(secondPageSlice);
-    given(messageMapper.toDto(eq(message3))).willReturn(messageDto3);
-    given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(message3CreatedAt)))
-        .willReturn(secondPageResponse);
+    given(messageRepository.findOlderCursorsByChannelId(eq(channelId),
+        eq(message2.getCreatedAt()), eq(message2.getId()), eq(Limit.of(pageSize + 1))))
+        .willReturn(List.of(cursorOf(message1)));
+    given(messageRepository.findAllWithAuthorAndAttachmentsByIdIn(eq(List.of(message1.getId()))))
+        .willReturn(List.of(message1));
+    given(messageMapper.toDto(eq(message1))).willReturn(messageDto1);
 
     // when - 두 번째 페이지 요청 (첫 페이지의 커서 사용)
     PageResponse<MessageDto> secondResult = messageService.findAllByChannelId(channelId,
-        message2CreatedAt,
-        pageable);
+        (String) result.nextCursor(), Direction.DESC, pageable);
 
     // then - 두 번째 페이지 검증
-    assertThat(secondResult).isEqualTo(secondPageResponse);
-    assertThat(secondResult.content()).hasSize(1); // 마지막 페이지는 항목 1개만 있음
+    assertThat(secondResult.content()).containsExactly(messageDto1);
     assertThat(secondResult.hasNext()).isFalse(); // 더 이상 다음 페이지 없음
   }
 
+  @Test
+  @DisplayName("ASC 방향으로 커서 이후 메시지를 조회하면 최신순으로 정렬된 결과를 반환한다")
+  void findAllByChannelId_Newer_Success() {
+    // given
+    int pageSize = 2;
+    Pageable pageable = PageRequest.of(0, pageSize);
+
+    Message message1 = createMessage(content + "1", Instant.now().minusSeconds(30));
+    Message message2 = createMessage(content + "2", Instant.now().minusSeconds(20));
+    Message message3 = createMessage(content + "3", Instant.now().minusSeconds(10));
+    MessageDto messageDto2 = toDto(message2);
+    MessageDto messageDto3 = toDto(message3);
+    String cursor = new MessageCursor(message1.getCreatedAt(), message1.getId()).encode();
+
+    given(messageRepository.findNewerCursorsByChannelId(eq(channelId),
+        eq(message1.getCreatedAt()), eq(message1.getId()), eq(Limit.of(pageSize + 1))))
+        .willReturn(List.of(cursorOf(message2), cursorOf(message3)));
+    given(messageRepository.findAllWithAuthorAndAttachmentsByIdIn(
+        eq(List.of(message2.getId(), message3.getId()))))
+        .willReturn(List.of(message2, message3));
+    given(messageMapper.toDto(eq(message2))).willReturn(messageDto2);
+    given(messageMapper.toDto(eq(message3))).willReturn(messageDto3);
+    givenPageResponseFromSlice();
+
+    // when
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, cursor,
+        Direction.ASC, pageable);
+
+    // then - nextCursor는 가장 최신 메시지 (같은 방향으로 이어서 조회)
+    assertThat(result.content()).containsExactly(messageDto3, messageDto2);
+    assertThat(result.hasNext()).isFalse();
+    assertThat(result.nextCursor())
+        .isEqualTo(new MessageCursor(message3.getCreatedAt(), message3.getId()).encode());
+  }
+
+  @Test
+  @DisplayName("ID 조회와 본문 조회 사이에 삭제된 메시지는 제외하고, 커서는 ID 조회 위치로 만든다")
+  void findAllByChannelId_DeletedBetweenQueries_SkipsMessage() {
+    // given
+    int pageSize = 2;
+    Message message1 = createMessage(content + "1", Instant.now().minusSeconds(20));
+    Message message2 = createMessage(content + "2", Instant.now().minusSeconds(10));
+    MessageDto messageDto2 = toDto(message2);
+
+    given(messageRepository.findLatestCursorsByChannelId(eq(channelId), eq(Limit.of(pageSize + 1))))
+        .willReturn(List.of(cursorOf(message2), cursorOf(message1)));
+    // message1은 본문 조회 전에 삭제됨
+    given(messageRepository.findAllWithAuthorAndAttachmentsByIdIn(
+        eq(List.of(message2.getId(), message1.getId()))))
+        .willReturn(List.of(message2));
+    given(messageMapper.toDto(eq(message2))).willReturn(messageDto2);
+    givenPageResponseFromSlice();
+
+    // when
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, null,
+        Direction.DESC, PageRequest.of(0, pageSize));
+
+    // then
+    assertThat(result.content()).containsExactly(messageDto2);
+    assertThat(result.nextCursor()).isEqualTo(cursorOf(message1).encode());
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 메시지 목록 조회 시 실패")
+  void findAllByChannelId_InvalidCursor_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> messageService.findAllByChannelId(channelId, "invalid-cursor",
+        Direction.DESC, PageRequest.of(0, 50)))
+        .isInstanceOf(InvalidMessageCursorException.class);
+  }
+
+  private Message createMessage(String messageContent, Instant createdAt) {
+    Message created = new Message(messageContent, channel, author, List.of(attachment));
+    ReflectionTestUtils.setField(created, "id", UUID.randomUUID());
+    ReflectionTestUtils.setField(created, "createdAt", createdAt);
+    return created;
+  }
+
+  private MessageCursor cursorOf(Message source) {
+    return new MessageCursor(source.getCreatedAt(), source.getId());
+  }
+
+  private MessageDto toDto(Message source) {
+    return new MessageDto(
+        source.getId(),
+        source.getCreatedAt(),
+        source.getCreatedAt(),
+        source.getContent(),
+        channelId,
+        new UserDto(authorId, "testUser", "test@example.com", null, true, Role.USER),
+        List.of(attachmentDto)
+    );
+  }
+
+  private void givenPageResponseFromSlice() {
+    given(pageResponseMapper.<MessageDto>fromSlice(any(), any())).willAnswer(invocation -> {
+      Slice<MessageDto> slice = invocation.getArgument(0);
+      return new PageResponse<>(slice.getContent(), invocation.getArgument(1), slice.getSize(),
+          slice.hasNext(), null);
+    });
+  }
+
   @Test
   @DisplayName("메시지 수정 성공")
   void updateMessage_Success() {
@@ -330,6 +409,7 @@ class BasicMessageServiceTest {
 
     // then
     assertThat(result).isEqualTo(messageDto);
+    verify(eventPublisher).publishEvent(eq(MessageEvent.updated(messageDto)));
   }
 
   @Test
@@ -348,20 +428,24 @@ class BasicMessageServiceTest {
   @DisplayName("메시지 삭제 성공")
   void deleteMessage_Success() {
     // given
-    given(messageRepository.existsById(eq(messageId))).willReturn(true);
+    Instant createdAt = Instant.now();
+    ReflectionTestUtils.setField(message, "createdAt", createdAt);
+    given(messageRepository.findById(eq(messageId))).willReturn(Optional.of(message));
 
     // when
     messageService.delete(messageId);
 
     // then
-    verify(messageRepository).deleteById(eq(messageId));
+    verify(messageRepository).delete(eq(message));
+    verify(channelRepository).rewindLastMessageAt(eq(channelId), eq(createdAt));
+    verify(eventPublisher).publishEvent(eq(MessageEvent.deleted(channelId, messageId)));
   }
 
   @Test
   @DisplayName("존재하지 않는 메시지 삭제 시도 시 실패")
   void deleteMessage_WithNonExistentId_ThrowsException() {
     // given
-    given(messageRepository.existsById(eq(messageId))).willReturn(false);
+    given(messageRepository.findById(eq(messageId))).willReturn(Optional.empty());
 
     // when & then
     assertThatThrownBy(() -> messageService.delete(messageId))
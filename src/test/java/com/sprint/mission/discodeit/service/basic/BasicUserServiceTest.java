@@ -5,26 +5,36 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
 import com.sprint.mission.discodeit.exception.user.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -39,6 +49,15 @@ class BasicUserServiceTest {
   @Mock
   private PasswordEncoder passwordEncoder;
 
+  @Mock
+  private BinaryContentRepository binaryContentRepository;
+
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private BasicUserService userService;
 
@@ -66,8 +85,6 @@ class BasicUserServiceTest {
   void createUser_Success() {
     // given
     UserCreateRequest request = new UserCreateRequest(username, email, password);
-    given(userRepository.existsByEmail(eq(email))).willReturn(false);
-    given(userRepository.existsByUsername(eq(username))).willReturn(false);
     given(userMapper.toDto(any(User.class))).willReturn(userDto);
 
     // when
@@ -75,7 +92,7 @@ class BasicUserServiceTest {
 
     // then
     assertThat(result).isEqualTo(userDto);
-    verify(userRepository).save(any(User.class));
+    verify(userRepository).saveAndFlush(any(User.class));
   }
 
   @Test
@@ -83,11 +100,14 @@ class BasicUserServiceTest {
   void createUser_WithExistingEmail_ThrowsException() {
     // given
     UserCreateRequest request = new UserCreateRequest(username, email, password);
-    given(userRepository.existsByEmail(eq(email))).willReturn(true);
+    given(userRepository.saveAndFlush(any(User.class)))
+        .willThrow(uniqueViolation(User.EMAIL_UNIQUE_CONSTRAINT));
 
     // when & then
     assertThatThrownBy(() -> userService.create(request, Optional.empty()))
-        .isInstanceOf(UserAlreadyExistsException.class);
+        .isInstanceOf(UserAlreadyExistsException.class)
+        .satisfies(e -> assertThat(((UserAlreadyExistsException) e).getDetails())
+            .containsEntry("email", email));
   }
 
   @Test
@@ -95,12 +115,48 @@ class BasicUserServiceTest {
   void createUser_WithExistingUsername_ThrowsException() {
     // given
     UserCreateRequest request = new UserCreateRequest(username, email, password);
-    given(userRepository.existsByEmail(eq(email))).willReturn(false);
-    given(userRepository.existsByUsername(eq(username))).willReturn(true);
+    given(userRepository.saveAndFlush(any(User.class)))
+        .willThrow(uniqueViolation("PUBLIC." + User.USERNAME_UNIQUE_CONSTRAINT.toUpperCase()));
 
     // when & then
     assertThatThrownBy(() -> userService.create(request, Optional.empty()))
+        .isInstanceOf(UserAlreadyExistsException.class)
+        .satisfies(e -> assertThat(((UserAlreadyExistsException) e).getDetails())
+            .containsEntry("username", username));
+  }
+
+  @Test
+  @DisplayName("중복 가입이면 프로필을 저장하기 전에 실패한다")
+  void createUser_Duplicate_SkipsProfile() {
+    // given
+    UserCreateRequest request = new UserCreateRequest(username, email, password);
+    Optional<BinaryContentCreateRequest> profileRequest = Optional.of(
+        BinaryContentCreateRequest.of("profile.png", "image/png", new byte[1]));
+    given(userRepository.saveAndFlush(any(User.class)))
+        .willThrow(uniqueViolation(User.EMAIL_UNIQUE_CONSTRAINT));
+
+    // when & then
+    assertThatThrownBy(() -> userService.create(request, profileRequest))
         .isInstanceOf(UserAlreadyExistsException.class);
+    verifyNoInteractions(binaryContentRepository, binaryContentStorage);
+  }
+
+  @Test
+  @DisplayName("사용자 생성 시 인코딩한 비밀번호로 한 번에 저장한다")
+  void createUser_SavesEncodedPasswordOnce() {
+    // given
+    UserCreateRequest request = new UserCreateRequest(username, email, password);
+    given(passwordEncoder.encode(password)).willReturn("encoded");
+    given(userMapper.toDto(any(User.class))).willReturn(userDto);
+    ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+
+    // when
+    userService.create(request, Optional.empty());
+
+    // then
+    verify(userRepository).saveAndFlush(saved.capture());
+    verify(userRepository, never()).save(any(User.class));
+    assertThat(saved.getValue().getPassword()).isEqualTo("encoded");
   }
 
   @Test
@@ -138,8 +194,6 @@ class BasicUserServiceTest {
     UserUpdateRequest request = new UserUpdateRequest(newUsername, newEmail, newPassword);
 
     given(userRepository.findById(eq(userId))).willReturn(Optional.of(user));
-    given(userRepository.existsByEmail(eq(newEmail))).willReturn(false);
-    given(userRepository.existsByUsername(eq(newUsername))).willReturn(false);
     given(userMapper.toDto(any(User.class))).willReturn(userDto);
 
     // when
@@ -147,6 +201,25 @@ class BasicUserServiceTest {
 
     // then
     assertThat(result).isEqualTo(userDto);
+    verify(userRepository).saveAndFlush(eq(user));
+    verify(eventPublisher).publishEvent(eq(new UserChangedEvent(userId)));
+  }
+
+  @Test
+  @DisplayName("바꾼 이메일이 중복이면 프로필을 저장하기 전에 실패한다")
+  void updateUser_DuplicateEmail_SkipsProfile() {
+    // given
+    UserUpdateRequest request = new UserUpdateRequest(null, "taken@example.com", "newPassword");
+    Optional<BinaryContentCreateRequest> profileRequest = Optional.of(
+        BinaryContentCreateRequest.of("profile.png", "image/png", new byte[1]));
+    given(userRepository.findById(eq(userId))).willReturn(Optional.of(user));
+    given(userRepository.saveAndFlush(eq(user)))
+        .willThrow(uniqueViolation(User.EMAIL_UNIQUE_CONSTRAINT));
+
+    // when & then
+    assertThatThrownBy(() -> userService.update(userId, request, profileRequest))
+        .isInstanceOf(UserAlreadyExistsException.class);
+    verifyNoInteractions(binaryContentRepository, binaryContentStorage);
   }
 
   @Test
@@ -173,6 +246,7 @@ class BasicUserServiceTest {
 
     // then
     verify(userRepository).deleteById(eq(userId));
+    verify(eventPublisher).publishEvent(eq(new UserChangedEvent(userId)));
   }
 
   @Test
@@ -185,4 +259,9 @@ class BasicUserServiceTest {
     assertThatThrownBy(() -> userService.delete(userId))
         .isInstanceOf(UserNotFoundException.class);
   }
-} 
\ No newline at end of file
+
+  private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+    return new DataIntegrityViolationException("unique violation",
+        new ConstraintViolationException("unique violation", null, constraintName));
+  }
+}
@@ -0,0 +1,230 @@
+package com.sprint.mission.discodeit.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class MessageEventHubTest {
+
+  private static final Duration WRITE_TIMEOUT = Duration.ofMillis(200);
+
+  private MessageEventHub hub;
+
+  @BeforeEach
+  void setUp() {
+    hub = createHub(MessageEventHub.deliveryExecutor(2, 16));
+  }
+
+  @AfterEach
+  void tearDown() {
+    hub.shutdown();
+  }
+
+  @Test
+  @DisplayName("이벤트는 해당 채널을 구독한 연결에만 전달된다")
+  void publish_DeliversOnlyToChannelSubscribers() throws Exception {
+    // given
+    UUID channelId = UUID.randomUUID();
+    RecordingEmitter subscriber = new RecordingEmitter(1);
+    RecordingEmitter other = new RecordingEmitter(1);
+    hub.register(subscriber, UUID.randomUUID(), List.of(channelId));
+    hub.register(other, UUID.randomUUID(), List.of(UUID.randomUUID()));
+    MessageDto message = createMessage(channelId);
+
+    // when
+    hub.publish(MessageEvent.created(message));
+
+    // then
+    assertThat(subscriber.await()).isTrue();
+    assertThat(subscriber.frames.get(0))
+        .contains("event:message.created")
+        .contains("id:" + message.id())
+        .contains("\"content\":\"hello\"");
+    assertThat(other.frames).isEmpty();
+  }
+
+  @Test
+  @DisplayName("버퍼가 가득 찬 느린 구독자는 연결이 종료되고, 다른 구독자는 영향받지 않는다")
+  void publish_DropsSlowSubscriber() throws Exception {
+    // given
+    UUID channelId = UUID.randomUUID();
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingEmitter slow = new RecordingEmitter(1) {
+      @Override
+      public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.send(items);
+      }
+    };
+    RecordingEmitter fast = new RecordingEmitter(5);
+    hub.register(slow, UUID.randomUUID(), List.of(channelId));
+    hub.register(fast, UUID.randomUUID(), List.of(channelId));
+
+    // when - 첫 이벤트 전송 중 블로킹, 이후 버퍼(2) 초과
+    for (int i = 1; i <= 5; i++) {
+      hub.publish(MessageEvent.created(createMessage(channelId)));
+      assertThat(fast.awaitFrames(i)).isTrue();
+    }
+    release.countDown();
+
+    // then
+    assertThat(fast.frames).hasSize(5);
+    assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(hub.subscriberCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("쓰기가 멈춘 구독자는 write-timeout 이후 오류로 종료되고, 전송 스레드가 반환되어 다른 구독자가 받는다")
+  void publish_StalledWrite_ClosesConnectionAndReleasesThread() throws Exception {
+    // given - 전송 스레드 1개, 대기열 1칸. 멈춘 연결이 스레드를 점유한다
+    hub.shutdown();
+    hub = createHub(MessageEventHub.deliveryExecutor(1, 1));
+    UUID channelId = UUID.randomUUID();
+    CountDownLatch stalledWrite = new CountDownLatch(1);
+    CountDownLatch connectionClosed = new CountDownLatch(1);
+    RecordingEmitter stalled = new RecordingEmitter(1) {
+      @Override
+      public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+        stalledWrite.countDown();
+        try {
+          connectionClosed.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        throw new IOException("connection closed");
+      }
+
+      @Override
+      public void completeWithError(Throwable ex) {
+        super.completeWithError(ex);
+        connectionClosed.countDown();
+      }
+    };
+    hub.register(stalled, UUID.randomUUID(), List.of(channelId));
+    hub.publish(MessageEvent.created(createMessage(channelId)));
+    assertThat(stalledWrite.await(5, TimeUnit.SECONDS)).isTrue();
+
+    List<RecordingEmitter> healthy = List.of(new RecordingEmitter(1), new RecordingEmitter(1),
+        new RecordingEmitter(1));
+    healthy.forEach(emitter -> hub.register(emitter, UUID.randomUUID(), List.of(channelId)));
+
+    // when - 하나는 대기열에 들어가고 나머지는 거절되어 버퍼에 남는다
+    hub.publish(MessageEvent.created(createMessage(channelId)));
+    Thread.sleep(WRITE_TIMEOUT.toMillis() * 2);
+    hub.closeStalledWrites();
+
+    // then - 멈춘 연결만 오류로 종료되고, 남은 버퍼는 감시 주기마다 다시 예약되어 모두 전달된다
+    assertThat(stalled.failed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(hub.subscriberCount()).isEqualTo(healthy.size());
+    for (RecordingEmitter emitter : healthy) {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (emitter.frames.isEmpty() && System.nanoTime() < deadline) {
+        hub.closeStalledWrites();
+        Thread.sleep(10);
+      }
+      assertThat(emitter.frames).hasSize(1);
+    }
+    assertThat(stalled.completed.getCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("연결이 종료되면 구독이 해제된다")
+  void completion_Unsubscribes() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    RecordingEmitter emitter = new RecordingEmitter(1);
+    hub.register(emitter, UUID.randomUUID(), List.of(channelId));
+
+    // when
+    emitter.completionCallback.run();
+    hub.publish(MessageEvent.deleted(channelId, UUID.randomUUID()));
+
+    // then
+    assertThat(hub.subscriberCount()).isZero();
+    assertThat(emitter.frames).isEmpty();
+  }
+
+  private MessageEventHub createHub(ThreadPoolExecutor deliveryExecutor) {
+    return new MessageEventHub(new ObjectMapper().registerModule(new JavaTimeModule()), 2,
+        Duration.ofMinutes(1), WRITE_TIMEOUT, deliveryExecutor,
+        Executors.newSingleThreadScheduledExecutor());
+  }
+
+  private MessageDto createMessage(UUID channelId) {
+    return new MessageDto(UUID.randomUUID(), Instant.now(), Instant.now(), "hello", channelId,
+        null, List.of());
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    private final List<String> frames = new CopyOnWriteArrayList<>();
+    private final CountDownLatch received;
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private final CountDownLatch failed = new CountDownLatch(1);
+    private Runnable completionCallback;
+
+    private RecordingEmitter(int expectedFrames) {
+      this.received = new CountDownLatch(expectedFrames);
+    }
+
+    @Override
+    public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+      frames.add(items.stream()
+          .map(item -> item.getData().toString())
+          .collect(Collectors.joining()));
+      received.countDown();
+    }
+
+    @Override
+    public void complete() {
+      completed.countDown();
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      failed.countDown();
+    }
+
+    @Override
+    public void onCompletion(Runnable callback) {
+      this.completionCallback = callback;
+    }
+
+    private boolean await() throws InterruptedException {
+      return received.await(5, TimeUnit.SECONDS);
+    }
+
+    private boolean awaitFrames(int count) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (frames.size() < count && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      return frames.size() >= count;
+    }
+  }
+}
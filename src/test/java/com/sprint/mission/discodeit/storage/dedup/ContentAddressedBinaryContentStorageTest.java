@@ -0,0 +1,186 @@
+package com.sprint.mission.discodeit.storage.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.BlobRepository;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.staging.UploadStager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = {
+    "discodeit.storage.dedup.enabled=true",
+    "discodeit.storage.dedup.gc.min-age=PT0S"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("내용 기반 저장소 테스트")
+class ContentAddressedBinaryContentStorageTest {
+
+  private static final Path ROOT = createRoot();
+
+  @DynamicPropertySource
+  static void storageRoot(DynamicPropertyRegistry registry) {
+    registry.add("discodeit.storage.local.root-path", ROOT::toString);
+  }
+
+  @Autowired
+  private BinaryContentService binaryContentService;
+
+  @Autowired
+  private BinaryContentStorage binaryContentStorage;
+
+  @Autowired
+  private BinaryContentRepository binaryContentRepository;
+
+  @Autowired
+  private BlobRepository blobRepository;
+
+  @Autowired
+  private BlobGarbageCollector blobGarbageCollector;
+
+  @Autowired
+  private UploadStager uploadStager;
+
+  @Autowired
+  private PendingUploadRepository pendingUploadRepository;
+
+  @Test
+  @DisplayName("같은 내용은 Blob 하나로 한 번만 저장하고 각 항목에서 조회된다")
+  void create_SameContent_StoresOnce() throws Exception {
+    // given
+    byte[] bytes = ("avatar-" + UUID.randomUUID()).getBytes();
+
+    // when
+    BinaryContentDto first = create("a.png", bytes);
+    BinaryContentDto second = create("b.png", bytes);
+
+    // then
+    UUID firstBlobId = binaryContentRepository.findBlobIdById(first.id()).orElseThrow();
+    UUID secondBlobId = binaryContentRepository.findBlobIdById(second.id()).orElseThrow();
+    assertThat(secondBlobId).isEqualTo(firstBlobId);
+    assertThat(blobRepository.findById(firstBlobId)).isPresent();
+    assertThat(Files.exists(ROOT.resolve(firstBlobId.toString()))).isTrue();
+    assertThat(Files.exists(ROOT.resolve(first.id().toString()))).isFalse();
+    assertThat(read(first.id())).isEqualTo(bytes);
+    assertThat(read(second.id())).isEqualTo(bytes);
+  }
+
+  @Test
+  @DisplayName("미리 업로드한(staged) 같은 내용도 Blob 하나로 한 번만 저장하고, 승격 시 Blob이 연결된다")
+  void stageThenCreate_SameContent_StoresOnce() throws Exception {
+    // given
+    byte[] bytes = ("staged-" + UUID.randomUUID()).getBytes();
+    BinaryContentCreateRequest firstStaged = uploadStager.stage(
+        BinaryContentCreateRequest.of("a.png", "image/png", bytes));
+    BinaryContentCreateRequest secondStaged = uploadStager.stage(
+        BinaryContentCreateRequest.of("b.png", "image/png", bytes));
+
+    // when
+    BinaryContentDto first = binaryContentService.create(firstStaged);
+    BinaryContentDto second = binaryContentService.create(secondStaged);
+
+    // then - 실제 저장소에는 Blob key 하나만 존재
+    UUID blobId = binaryContentRepository.findBlobIdById(first.id()).orElseThrow();
+    assertThat(binaryContentRepository.findBlobIdById(second.id())).contains(blobId);
+    assertThat(Files.exists(ROOT.resolve(blobId.toString()))).isTrue();
+    assertThat(Files.exists(ROOT.resolve(first.id().toString()))).isFalse();
+    assertThat(Files.exists(ROOT.resolve(second.id().toString()))).isFalse();
+    assertThat(pendingUploadRepository.existsById(first.id())).isFalse();
+    assertThat(pendingUploadRepository.existsById(second.id())).isFalse();
+    assertThat(read(first.id())).isEqualTo(bytes);
+    assertThat(read(second.id())).isEqualTo(bytes);
+  }
+
+  @Test
+  @DisplayName("승격 전인 staged upload의 Blob은 GC가 지우지 않는다")
+  void collect_KeepsBlobOfPendingUpload() {
+    // given
+    byte[] bytes = ("pending-" + UUID.randomUUID()).getBytes();
+    BinaryContentCreateRequest staged = uploadStager.stage(
+        BinaryContentCreateRequest.of("c.png", "image/png", bytes));
+    UUID blobId = pendingUploadRepository.findAllWithBlobByIdIn(List.of(staged.stagedId()))
+        .get(0).getBlob().getId();
+
+    // when
+    blobGarbageCollector.collect();
+
+    // then
+    assertThat(blobRepository.existsById(blobId)).isTrue();
+    assertThat(Files.exists(ROOT.resolve(blobId.toString()))).isTrue();
+  }
+
+  @Test
+  @DisplayName("내용이 다르면 각각 다른 Blob으로 저장한다")
+  void create_DifferentContent_StoresSeparately() {
+    // when
+    BinaryContentDto first = create("a.txt", ("one-" + UUID.randomUUID()).getBytes());
+    BinaryContentDto second = create("b.txt", ("two-" + UUID.randomUUID()).getBytes());
+
+    // then
+    assertThat(binaryContentRepository.findBlobIdById(first.id()))
+        .isNotEqualTo(binaryContentRepository.findBlobIdById(second.id()));
+  }
+
+  @Test
+  @DisplayName("GC는 마지막 참조가 삭제된 Blob만 저장소에서 지운다")
+  void collect_RemovesOnlyUnreferencedBlobs() {
+    // given
+    byte[] bytes = ("shared-" + UUID.randomUUID()).getBytes();
+    BinaryContentDto first = create("a.gif", bytes);
+    BinaryContentDto second = create("b.gif", bytes);
+    UUID blobId = binaryContentRepository.findBlobIdById(first.id()).orElseThrow();
+
+    // when - 참조 하나 삭제
+    binaryContentService.delete(first.id());
+    blobGarbageCollector.collect();
+
+    // then
+    assertThat(blobRepository.existsById(blobId)).isTrue();
+    assertThat(Files.exists(ROOT.resolve(blobId.toString()))).isTrue();
+
+    // when - 마지막 참조 삭제
+    binaryContentService.delete(second.id());
+    blobGarbageCollector.collect();
+
+    // then
+    assertThat(blobRepository.existsById(blobId)).isFalse();
+    assertThat(Files.exists(ROOT.resolve(blobId.toString()))).isFalse();
+  }
+
+  private BinaryContentDto create(String fileName, byte[] bytes) {
+    return binaryContentService.create(
+        BinaryContentCreateRequest.of(fileName, "application/octet-stream", bytes));
+  }
+
+  private byte[] read(UUID binaryContentId) throws IOException {
+    try (InputStream inputStream = binaryContentStorage.get(binaryContentId)) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  private static Path createRoot() {
+    try {
+      return Files.createTempDirectory("discodeit-dedup-");
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
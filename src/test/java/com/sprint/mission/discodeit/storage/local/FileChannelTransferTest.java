@@ -0,0 +1,55 @@
+package com.sprint.mission.discodeit.storage.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class FileChannelTransferTest {
+
+  @TempDir
+  Path root;
+
+  @Test
+  @DisplayName("파일 리소스 전체를 채널로 전송한다")
+  void resourceConverter_WritesWholeFile() throws Exception {
+    // given
+    Path file = Files.write(root.resolve("whole"), "0123456789".getBytes());
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+    // when
+    new FileChannelTransfer.ResourceConverter()
+        .write(new FileSystemResource(file), MediaType.TEXT_PLAIN, outputMessage);
+
+    // then
+    assertThat(outputMessage.getBodyAsBytes()).isEqualTo("0123456789".getBytes());
+    assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("요청 구간만 전송하고 Content-Range를 설정한다")
+  void resourceRegionConverter_WritesRequestedRange() throws Exception {
+    // given
+    Path file = Files.write(root.resolve("range"), "0123456789".getBytes());
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+    ResourceRegion region = new ResourceRegion(new FileSystemResource(file), 7, 10);
+
+    // when
+    new FileChannelTransfer.ResourceRegionConverter()
+        .write(region, MediaType.TEXT_PLAIN, outputMessage);
+
+    // then - 파일 끝을 넘는 구간은 파일 길이에 맞춰 자른다
+    assertThat(outputMessage.getBodyAsString()).isEqualTo("789");
+    assertThat(outputMessage.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE))
+        .isEqualTo("bytes 7-9/10");
+    assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(3);
+  }
+}
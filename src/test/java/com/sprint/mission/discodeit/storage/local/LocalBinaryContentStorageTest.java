@@ -0,0 +1,147 @@
+package com.sprint.mission.discodeit.storage.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalBinaryContentStorageTest {
+
+  private static final long MB = 1024 * 1024;
+
+  @TempDir
+  Path root;
+
+  private LocalBinaryContentStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    storage = new LocalBinaryContentStorage(root);
+    storage.init();
+  }
+
+  @Test
+  @DisplayName("스트림 내용을 그대로 파일에 저장한다")
+  void put_CopiesStream() throws Exception {
+    // given
+    UUID id = UUID.randomUUID();
+    byte[] bytes = "streamed content".getBytes();
+
+    // when
+    storage.put(id, new ByteArrayInputStream(bytes), bytes.length);
+
+    // then
+    try (InputStream inputStream = storage.get(id)) {
+      assertThat(inputStream.readAllBytes()).isEqualTo(bytes);
+    }
+  }
+
+  @Test
+  @DisplayName("FileInputStream은 파일 채널에서 직접 전송해 저장한다")
+  void put_FileInputStream() throws Exception {
+    // given
+    UUID id = UUID.randomUUID();
+    Path upload = Files.write(root.resolve("upload.tmp"), "uploaded file".getBytes());
+
+    // when
+    try (FileInputStream inputStream = new FileInputStream(upload.toFile())) {
+      storage.put(id, inputStream, Files.size(upload));
+    }
+
+    // then
+    assertThat(Files.readAllBytes(root.resolve(id.toString())))
+        .isEqualTo(Files.readAllBytes(upload));
+  }
+
+  @Test
+  @DisplayName("스트림이 선언한 크기보다 짧으면 불완전한 파일을 남기지 않는다")
+  void put_TruncatedStream_DeletesPartialFile() {
+    // given
+    UUID id = UUID.randomUUID();
+
+    // when & then
+    assertThatThrownBy(() -> storage.put(id, new ByteArrayInputStream(new byte[10]), 20))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(root.resolve(id.toString())).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("이미 존재하는 키로 저장하면 실패한다")
+  void put_ExistingKey_ThrowsException() {
+    // given
+    UUID id = UUID.randomUUID();
+    storage.put(id, new byte[]{1});
+
+    // when & then
+    assertThatThrownBy(() -> storage.put(id, new byte[]{2}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("업로드 중 힙 할당량은 파일 크기와 관계없이 일정하다")
+  void put_AllocatesConstantHeapRegardlessOfSize() {
+    // given - 워밍업 (클래스 로딩, 버퍼 캐시)
+    storage.put(UUID.randomUUID(), new GeneratedInputStream(MB), MB);
+
+    // when
+    long smallUpload = allocatedBytesDuring(() ->
+        storage.put(UUID.randomUUID(), new GeneratedInputStream(MB), MB));
+    long largeUpload = allocatedBytesDuring(() ->
+        storage.put(UUID.randomUUID(), new GeneratedInputStream(64 * MB), 64 * MB));
+
+    // then - 64배 큰 파일이어도 할당량 차이는 1MB 미만 (byte[]로 읽었다면 64MB 이상)
+    assertThat(largeUpload - smallUpload).isLessThan(MB);
+  }
+
+  private long allocatedBytesDuring(Runnable upload) {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    upload.run();
+    return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+  }
+
+  /**
+   * 내용을 메모리에 보관하지 않고 요청한 크기만큼 바이트를 생성하는 스트림
+   */
+  private static class GeneratedInputStream extends InputStream {
+
+    private long remaining;
+
+    private GeneratedInputStream(long size) {
+      this.remaining = size;
+    }
+
+    @Override
+    public int read() {
+      if (remaining <= 0) {
+        return -1;
+      }
+      remaining--;
+      return 'a';
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int count = (int) Math.min(length, remaining);
+      Arrays.fill(buffer, offset, offset + count, (byte) 'a');
+      remaining -= count;
+      return count;
+    }
+  }
+}
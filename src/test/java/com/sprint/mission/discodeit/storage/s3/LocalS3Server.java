@@ -0,0 +1,202 @@
+package com.sprint.mission.discodeit.storage.s3;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 호환 서버 (path-style, 메모리 저장)
+ * <p>
+ * PutObject, GetObject, DeleteObject와 멀티파트 업로드(Create/UploadPart/Complete/Abort)만 지원한다. 서명과 체크섬은 검증하지 않으며,
+ * aws-chunked 본문은 디코딩해서 저장한다.
+ */
+class LocalS3Server implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newFixedThreadPool(32);
+  private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+  private final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+  private final AtomicInteger completedMultipartUploads = new AtomicInteger();
+
+  LocalS3Server() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  URI endpoint() {
+    return URI.create("http://localhost:" + server.getAddress().getPort());
+  }
+
+  Optional<byte[]> object(String bucket, String key) {
+    return Optional.ofNullable(objects.get(bucket + "/" + key));
+  }
+
+  int completedMultipartUploads() {
+    return completedMultipartUploads.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      String objectKey = exchange.getRequestURI().getPath().substring(1);
+      Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+      String method = exchange.getRequestMethod();
+
+      if (method.equals("PUT") && query.containsKey("uploadId")) {
+        byte[] body = readBody(exchange);
+        uploads.get(query.get("uploadId"))
+            .put(Integer.parseInt(query.get("partNumber")), body);
+        sendEmpty(exchange, 200, etag(body));
+      } else if (method.equals("PUT")) {
+        byte[] body = readBody(exchange);
+        objects.put(objectKey, body);
+        sendEmpty(exchange, 200, etag(body));
+      } else if (method.equals("POST") && query.containsKey("uploads")) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+        sendXml(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + bucket(objectKey)
+            + "</Bucket><Key>" + key(objectKey) + "</Key><UploadId>" + uploadId
+            + "</UploadId></InitiateMultipartUploadResult>");
+      } else if (method.equals("POST") && query.containsKey("uploadId")) {
+        exchange.getRequestBody().readAllBytes();
+        SortedMap<Integer, byte[]> parts = uploads.remove(query.get("uploadId"));
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (byte[] part : parts.values()) {
+          object.write(part);
+        }
+        objects.put(objectKey, object.toByteArray());
+        completedMultipartUploads.incrementAndGet();
+        sendXml(exchange, 200, "<CompleteMultipartUploadResult><Bucket>" + bucket(objectKey)
+            + "</Bucket><Key>" + key(objectKey) + "</Key><ETag>" + etag(object.toByteArray())
+            + "</ETag></CompleteMultipartUploadResult>");
+      } else if (method.equals("DELETE") && query.containsKey("uploadId")) {
+        uploads.remove(query.get("uploadId"));
+        sendEmpty(exchange, 204, null);
+      } else if (method.equals("DELETE")) {
+        objects.remove(objectKey);
+        sendEmpty(exchange, 204, null);
+      } else if (method.equals("GET")) {
+        byte[] object = objects.get(objectKey);
+        if (object == null) {
+          sendXml(exchange, 404,
+              "<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>");
+          return;
+        }
+        exchange.getResponseHeaders().set("ETag", etag(object));
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, object.length == 0 ? -1 : object.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+          outputStream.write(object);
+        }
+      } else {
+        sendXml(exchange, 501, "<Error><Code>NotImplemented</Code></Error>");
+      }
+    }
+  }
+
+  /**
+   * aws-chunked 본문({hex 크기}[;chunk-signature=...]\r\n{데이터}\r\n ... 0\r\n{trailer}\r\n\r\n)을 디코딩
+   */
+  private byte[] readBody(HttpExchange exchange) throws IOException {
+    InputStream inputStream = exchange.getRequestBody();
+    String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+    String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+    boolean chunked = (contentEncoding != null && contentEncoding.contains("aws-chunked"))
+        || (contentSha256 != null && contentSha256.startsWith("STREAMING-"));
+    if (!chunked) {
+      return inputStream.readAllBytes();
+    }
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    while (true) {
+      String header = readLine(inputStream);
+      int extension = header.indexOf(';');
+      int size = Integer.parseInt(extension >= 0 ? header.substring(0, extension) : header, 16);
+      if (size == 0) {
+        inputStream.readAllBytes();
+        return body.toByteArray();
+      }
+      body.write(inputStream.readNBytes(size));
+      readLine(inputStream);
+    }
+  }
+
+  private String readLine(InputStream inputStream) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int b;
+    while ((b = inputStream.read()) != -1 && b != '\n') {
+      if (b != '\r') {
+        line.append((char) b);
+      }
+    }
+    return line.toString();
+  }
+
+  private void sendEmpty(HttpExchange exchange, int status, String etag) throws IOException {
+    if (etag != null) {
+      exchange.getResponseHeaders().set("ETag", etag);
+    }
+    exchange.sendResponseHeaders(status, -1);
+  }
+
+  private void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+    byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/xml");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(body);
+    }
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery == null) {
+      return query;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int separator = pair.indexOf('=');
+      if (separator < 0) {
+        query.put(pair, "");
+      } else {
+        query.put(pair.substring(0, separator), pair.substring(separator + 1));
+      }
+    }
+    return query;
+  }
+
+  private static String bucket(String objectKey) {
+    return objectKey.substring(0, objectKey.indexOf('/'));
+  }
+
+  private static String key(String objectKey) {
+    return objectKey.substring(objectKey.indexOf('/') + 1);
+  }
+
+  private static String etag(byte[] body) {
+    return "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+  }
+}
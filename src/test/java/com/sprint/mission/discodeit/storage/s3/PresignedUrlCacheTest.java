@@ -0,0 +1,164 @@
+package com.sprint.mission.discodeit.storage.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.storage.s3.PresignedUrlCache.PresignedUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+class PresignedUrlCacheTest {
+
+  private static final Duration EXPIRATION = Duration.ofMinutes(10);
+
+  private final FakeTime time = new FakeTime();
+  private final AtomicInteger signCount = new AtomicInteger();
+  private SimpleMeterRegistry meterRegistry;
+  private S3Presigner presigner;
+  private PresignedUrlCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    presigner = S3Presigner.builder()
+        .region(Region.US_EAST_1)
+        .credentialsProvider(StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("test-access-key", "test-secret-key")))
+        .build();
+    cache = new PresignedUrlCache(meterRegistry, 100, 0.5, time::nanos, time);
+  }
+
+  @AfterEach
+  void tearDown() {
+    presigner.close();
+  }
+
+  @Test
+  @DisplayName("재사용 기간 동안은 같은 URL을 반환하고 다시 서명하지 않는다")
+  void get_WithinReuseWindow_ReturnsCachedUrl() {
+    // given
+    UUID id = UUID.randomUUID();
+    PresignedUrl first = cache.get(id, "image/png", signer(id, "image/png"));
+
+    // when
+    time.advance(Duration.ofMinutes(4));
+    PresignedUrl second = cache.get(id, "image/png", signer(id, "image/png"));
+
+    // then
+    assertThat(second).isEqualTo(first);
+    assertThat(signCount).hasValue(1);
+    assertThat(Duration.between(time.instant(), first.reuseUntil()))
+        .isBetween(Duration.ofSeconds(59), Duration.ofSeconds(61));
+  }
+
+  @Test
+  @DisplayName("유효 시간의 reuse-ratio가 지나면 새로 서명한다")
+  void get_AfterReuseWindow_SignsAgain() {
+    // given
+    UUID id = UUID.randomUUID();
+    cache.get(id, "image/png", signer(id, "image/png"));
+
+    // when
+    time.advance(Duration.ofMinutes(5).plusSeconds(1));
+    cache.get(id, "image/png", signer(id, "image/png"));
+
+    // then
+    assertThat(signCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("같은 ID라도 contentType이 다르면 별도로 서명한다")
+  void get_DifferentContentType_SignsSeparately() {
+    // given
+    UUID id = UUID.randomUUID();
+
+    // when
+    PresignedUrl png = cache.get(id, "image/png", signer(id, "image/png"));
+    PresignedUrl octetStream = cache.get(id, "application/octet-stream",
+        signer(id, "application/octet-stream"));
+
+    // then
+    assertThat(png.url()).isNotEqualTo(octetStream.url());
+    assertThat(signCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("hit/miss 횟수를 cache.gets 지표로 노출한다")
+  void get_RecordsHitAndMissMetrics() {
+    // given
+    UUID id = UUID.randomUUID();
+
+    // when
+    cache.get(id, "image/png", signer(id, "image/png"));
+    cache.get(id, "image/png", signer(id, "image/png"));
+    cache.get(id, "image/png", signer(id, "image/png"));
+
+    // then
+    assertThat(meterRegistry.get("cache.gets").tag("cache", PresignedUrlCache.CACHE_NAME)
+        .tag("result", "hit").functionCounter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", PresignedUrlCache.CACHE_NAME)
+        .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+  }
+
+  private Supplier<PresignedGetObjectRequest> signer(UUID id, String contentType) {
+    return () -> {
+      signCount.incrementAndGet();
+      return presigner.presignGetObject(GetObjectPresignRequest.builder()
+          .signatureDuration(EXPIRATION)
+          .getObjectRequest(GetObjectRequest.builder()
+              .bucket("discodeit-test")
+              .key(id.toString())
+              .responseContentType(contentType)
+              .build())
+          .build());
+    };
+  }
+
+  /**
+   * Caffeine ticker와 Clock을 함께 움직이는 테스트용 시계
+   */
+  private static class FakeTime extends Clock {
+
+    private final Instant start = Instant.now();
+    private long elapsedNanos;
+
+    private void advance(Duration duration) {
+      elapsedNanos += duration.toNanos();
+    }
+
+    private long nanos() {
+      return elapsedNanos;
+    }
+
+    @Override
+    public Instant instant() {
+      return start.plusNanos(elapsedNanos);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
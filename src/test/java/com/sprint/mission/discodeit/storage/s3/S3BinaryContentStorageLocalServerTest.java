@@ -0,0 +1,199 @@
+package com.sprint.mission.discodeit.storage.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.config.S3ClientConfig;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/*
+ * 로컬 S3 호환 서버(LocalS3Server)를 대상으로 공유 클라이언트, 멀티파트 업로드, 스트리밍 조회를 검증하고 크기별 처리량을 기록
+ * */
+@Slf4j
+@DisplayName("S3BinaryContentStorage 로컬 S3 호환 서버 테스트")
+class S3BinaryContentStorageLocalServerTest {
+
+  private static final String BUCKET = "discodeit-test";
+  private static final int KB = 1024;
+  private static final int MB = 1024 * KB;
+  private static final long MULTIPART_THRESHOLD = 5L * MB;
+
+  private static LocalS3Server server;
+  private static S3Client s3Client;
+  private static S3AsyncClient s3AsyncClient;
+  private static S3Presigner s3Presigner;
+  private static S3BinaryContentStorage storage;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    server = new LocalS3Server();
+    S3ClientConfig config = new S3ClientConfig("test-access-key", "test-secret-key", "us-east-1",
+        server.endpoint().toString(), true, 16, MULTIPART_THRESHOLD, MULTIPART_THRESHOLD);
+    s3Client = config.s3Client();
+    s3AsyncClient = config.s3AsyncClient();
+    s3Presigner = config.s3Presigner();
+    storage = new S3BinaryContentStorage(s3Client, s3AsyncClient, s3Presigner,
+        new PresignedUrlCache(new SimpleMeterRegistry(), 100, 0.5), BUCKET, MULTIPART_THRESHOLD);
+    ReflectionTestUtils.setField(storage, "presignedUrlExpirationSeconds", 600L);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    s3Client.close();
+    s3AsyncClient.close();
+    s3Presigner.close();
+    server.close();
+  }
+
+  @Test
+  @DisplayName("threshold 미만 객체는 단일 요청으로 업로드하고 스트림으로 조회한다")
+  void putAndGet_SmallObject() throws Exception {
+    // given
+    UUID id = UUID.randomUUID();
+    byte[] bytes = randomBytes(KB);
+    int multipartUploads = server.completedMultipartUploads();
+
+    // when
+    storage.put(id, new ByteArrayInputStream(bytes), bytes.length);
+
+    // then
+    try (InputStream inputStream = storage.get(id)) {
+      assertThat(inputStream.readAllBytes()).isEqualTo(bytes);
+    }
+    assertThat(server.completedMultipartUploads()).isEqualTo(multipartUploads);
+  }
+
+  @Test
+  @DisplayName("threshold 이상 객체는 비동기 멀티파트로 업로드한다")
+  void put_LargeObject_UsesMultipartUpload() throws Exception {
+    // given
+    UUID id = UUID.randomUUID();
+    byte[] bytes = randomBytes(12 * MB);
+    int multipartUploads = server.completedMultipartUploads();
+
+    // when
+    storage.put(id, new ByteArrayInputStream(bytes), bytes.length);
+
+    // then
+    assertThat(server.completedMultipartUploads()).isEqualTo(multipartUploads + 1);
+    assertThat(server.object(BUCKET, id.toString())).hasValue(bytes);
+  }
+
+  @Test
+  @DisplayName("삭제한 객체는 더 이상 조회되지 않는다")
+  void delete_RemovesObject() {
+    // given
+    UUID id = UUID.randomUUID();
+    storage.put(id, new byte[]{1, 2, 3});
+
+    // when
+    storage.delete(id);
+
+    // then
+    assertThat(server.object(BUCKET, id.toString())).isEmpty();
+    assertThatThrownBy(() -> storage.get(id)).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 객체 조회 시 예외가 발생한다")
+  void get_NonExistentObject_ThrowsException() {
+    assertThatThrownBy(() -> storage.get(UUID.randomUUID()))
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  @DisplayName("다운로드는 공유 Presigner로 만든 URL로 리다이렉트한다")
+  void download_RedirectsToPresignedUrl() {
+    // given
+    BinaryContentDto metaData = new BinaryContentDto(UUID.randomUUID(), "test.txt", 10L,
+        "text/plain");
+
+    // when
+    ResponseEntity<Void> response = storage.download(metaData);
+
+    // then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.LOCATION))
+        .startsWith(server.endpoint() + "/" + BUCKET + "/" + metaData.id())
+        .contains("X-Amz-Signature=");
+    assertThat(response.getHeaders().getCacheControl()).startsWith("max-age=").endsWith("private");
+  }
+
+  @Test
+  @DisplayName("같은 파일의 반복 다운로드는 캐시된 URL로 리다이렉트한다")
+  void download_Repeated_ReturnsSameUrl() {
+    // given
+    BinaryContentDto metaData = new BinaryContentDto(UUID.randomUUID(), "avatar.png", 10L,
+        "image/png");
+    String firstLocation = storage.download(metaData).getHeaders().getFirst(HttpHeaders.LOCATION);
+
+    // when
+    ResponseEntity<Void> response = storage.download(metaData);
+
+    // then
+    assertThat(response.getHeaders().getFirst(HttpHeaders.LOCATION)).isEqualTo(firstLocation);
+  }
+
+  @Test
+  @DisplayName("크기별 업로드/조회 처리량 (1KB, 1MB, 10MB)")
+  void throughput() throws Exception {
+    report("1KB", KB, 200);
+    report("1MB", MB, 20);
+    report("10MB", 10 * MB, 5);
+  }
+
+  private void report(String label, int size, int iterations) throws Exception {
+    byte[] bytes = randomBytes(size);
+    UUID[] ids = new UUID[iterations];
+
+    long putStart = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      ids[i] = UUID.randomUUID();
+      storage.put(ids[i], new ByteArrayInputStream(bytes), size);
+    }
+    long putNanos = System.nanoTime() - putStart;
+
+    long getStart = System.nanoTime();
+    for (UUID id : ids) {
+      try (InputStream inputStream = storage.get(id)) {
+        assertThat(inputStream.readAllBytes()).hasSize(size);
+      }
+    }
+    long getNanos = System.nanoTime() - getStart;
+
+    log.info("[S3 처리량] {} x {}: put {} MB/s ({} ops/s), get {} MB/s ({} ops/s)",
+        label, iterations,
+        String.format("%.1f", megabytesPerSecond(size, iterations, putNanos)),
+        String.format("%.0f", iterations / (putNanos / 1e9)),
+        String.format("%.1f", megabytesPerSecond(size, iterations, getNanos)),
+        String.format("%.0f", iterations / (getNanos / 1e9)));
+  }
+
+  private static double megabytesPerSecond(long size, int iterations, long nanos) {
+    return (double) size * iterations / MB / (nanos / 1e9);
+  }
+
+  private static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    return bytes;
+  }
+}
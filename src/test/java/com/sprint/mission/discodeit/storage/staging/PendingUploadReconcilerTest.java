@@ -0,0 +1,89 @@
+package com.sprint.mission.discodeit.storage.staging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = "discodeit.storage.staged-upload.grace-period=PT0S")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("업로드 스테이징 테스트")
+class PendingUploadReconcilerTest {
+
+  private static final Path ROOT = createRoot();
+
+  @DynamicPropertySource
+  static void storageRoot(DynamicPropertyRegistry registry) {
+    registry.add("discodeit.storage.local.root-path", ROOT::toString);
+  }
+
+  @Autowired
+  private UploadStager uploadStager;
+
+  @Autowired
+  private PendingUploadReconciler pendingUploadReconciler;
+
+  @Autowired
+  private PendingUploadRepository pendingUploadRepository;
+
+  @Autowired
+  private BinaryContentService binaryContentService;
+
+  @Test
+  @DisplayName("승격된 업로드는 미리 업로드한 파일을 그대로 BinaryContent로 사용한다")
+  void stage_ThenCreate_PromotesStagedFile() {
+    // given
+    byte[] bytes = ("staged-" + UUID.randomUUID()).getBytes();
+    BinaryContentCreateRequest staged = uploadStager.stage(
+        BinaryContentCreateRequest.of("a.txt", "text/plain", bytes));
+
+    // when
+    BinaryContentDto created = binaryContentService.create(staged);
+    pendingUploadReconciler.reconcile();
+
+    // then
+    assertThat(created.id()).isEqualTo(staged.stagedId());
+    assertThat(pendingUploadRepository.existsById(staged.stagedId())).isFalse();
+    assertThat(Files.exists(ROOT.resolve(created.id().toString()))).isTrue();
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 업로드는 grace-period 이후 저장소에서 삭제된다")
+  void reconcile_DeletesUnpromotedUpload() {
+    // given - 메타데이터 저장 전에 요청이 실패한 경우
+    BinaryContentCreateRequest staged = uploadStager.stage(
+        BinaryContentCreateRequest.of("b.txt", "text/plain", new byte[16]));
+    assertThat(Files.exists(ROOT.resolve(staged.stagedId().toString()))).isTrue();
+
+    // when
+    int removed = pendingUploadReconciler.reconcile();
+
+    // then
+    assertThat(removed).isGreaterThanOrEqualTo(1);
+    assertThat(pendingUploadRepository.existsById(staged.stagedId())).isFalse();
+    assertThat(Files.exists(ROOT.resolve(staged.stagedId().toString()))).isFalse();
+  }
+
+  private static Path createRoot() {
+    try {
+      return Files.createTempDirectory("discodeit-staging-");
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.sprint.mission.discodeit.storage.staging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.entity.base.UuidStrategy;
+import com.sprint.mission.discodeit.repository.PendingUploadRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.InputStreamSource;
+
+class UploadStagerTest {
+
+  private BinaryContentStorage binaryContentStorage;
+  private PendingUploadRepository pendingUploadRepository;
+  private ExecutorService executor;
+  private UploadStager uploadStager;
+
+  @BeforeEach
+  void setUp() {
+    binaryContentStorage = mock(BinaryContentStorage.class);
+    pendingUploadRepository = mock(PendingUploadRepository.class);
+    executor = Executors.newFixedThreadPool(4);
+    uploadStager = new UploadStager(binaryContentStorage, pendingUploadRepository, UuidStrategy.V7,
+        true, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("여러 첨부파일은 동시에 업로드되고 요청 순서대로 반환된다")
+  void stageAll_UploadsConcurrently() {
+    // given - 세 업로드가 동시에 진행되어야만 통과하는 barrier
+    CyclicBarrier barrier = new CyclicBarrier(3);
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), anyLong()))
+        .willAnswer(invocation -> {
+          barrier.await(5, TimeUnit.SECONDS);
+          return invocation.getArgument(0);
+        });
+    List<BinaryContentCreateRequest> requests = List.of(request("a.txt"), request("b.txt"),
+        request("c.txt"));
+
+    // when
+    List<BinaryContentCreateRequest> staged = uploadStager.stageAll(requests);
+
+    // then
+    assertThat(staged).extracting(BinaryContentCreateRequest::fileName)
+        .containsExactly("a.txt", "b.txt", "c.txt");
+    assertThat(staged).allMatch(BinaryContentCreateRequest::isStaged);
+    assertThat(Set.copyOf(staged.stream().map(BinaryContentCreateRequest::stagedId).toList()))
+        .hasSize(3);
+  }
+
+  @Test
+  @DisplayName("하나라도 실패하면 모든 업로드와 pending 항목을 지우고 예외를 던진다")
+  void stageAll_OneFails_DiscardsAll() {
+    // given
+    RuntimeException failure = new RuntimeException("upload failed");
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), anyLong()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), eq(2L)))
+        .willThrow(failure);
+    List<BinaryContentCreateRequest> requests = List.of(request("a.txt"),
+        BinaryContentCreateRequest.of("b.txt", "text/plain", new byte[2]), request("c.txt"));
+
+    // when & then
+    assertThatThrownBy(() -> uploadStager.stageAll(requests)).isSameAs(failure);
+
+    ArgumentCaptor<List<UUID>> discarded = ArgumentCaptor.forClass(List.class);
+    verify(pendingUploadRepository).deleteAllByIdInBatch(discarded.capture());
+    assertThat(discarded.getValue()).hasSize(3);
+    discarded.getValue().forEach(stagedId -> verify(binaryContentStorage).delete(stagedId));
+  }
+
+  @Test
+  @DisplayName("staged ID는 설정된 ID 생성 방식을 따른다")
+  void stageAll_UsesConfiguredUuidStrategy() {
+    // given
+    UploadStager v4Stager = new UploadStager(binaryContentStorage, pendingUploadRepository,
+        UuidStrategy.V4, true, executor);
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), anyLong()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    List<BinaryContentCreateRequest> staged = v4Stager.stageAll(
+        List.of(request("a.txt"), request("b.txt")));
+
+    // then
+    assertThat(staged).extracting(request -> request.stagedId().version())
+        .containsOnly(4);
+  }
+
+  @Test
+  @DisplayName("스테이징을 끈 업로드도 주어진 ID로 동시에 업로드된다")
+  void uploadAll_UploadsConcurrentlyWithGivenIds() {
+    // given
+    UploadStager disabledStager = new UploadStager(binaryContentStorage, pendingUploadRepository,
+        UuidStrategy.V7, false, executor);
+    CyclicBarrier barrier = new CyclicBarrier(3);
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), anyLong()))
+        .willAnswer(invocation -> {
+          barrier.await(5, TimeUnit.SECONDS);
+          return invocation.getArgument(0);
+        });
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    // when
+    disabledStager.uploadAll(ids,
+        List.of(request("a.txt"), request("b.txt"), request("c.txt")));
+
+    // then
+    ids.forEach(id -> verify(binaryContentStorage).put(eq(id), any(InputStreamSource.class),
+        eq(1L)));
+    verifyNoInteractions(pendingUploadRepository);
+  }
+
+  @Test
+  @DisplayName("스테이징을 끈 업로드가 하나라도 실패하면 올라간 파일을 지우고 예외를 던진다")
+  void uploadAll_OneFails_DeletesAll() {
+    // given
+    RuntimeException failure = new RuntimeException("upload failed");
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), anyLong()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    given(binaryContentStorage.put(any(UUID.class), any(InputStreamSource.class), eq(2L)))
+        .willThrow(failure);
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+    // when & then
+    assertThatThrownBy(() -> uploadStager.uploadAll(ids, List.of(request("a.txt"),
+        BinaryContentCreateRequest.of("b.txt", "text/plain", new byte[2])))).isSameAs(failure);
+
+    ids.forEach(id -> verify(binaryContentStorage).delete(id));
+  }
+
+  private BinaryContentCreateRequest request(String fileName) {
+    return BinaryContentCreateRequest.of(fileName, "text/plain", new byte[1]);
+  }
+}